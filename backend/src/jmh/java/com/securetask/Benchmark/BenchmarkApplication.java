@@ -0,0 +1,35 @@
+package com.securetask.Benchmark;
+
+import java.util.stream.Stream;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.securetask.Application;
+
+/**
+ * Boots the application on the in-memory H2 "test" profile for macro benchmarks.
+ */
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {}
+
+    // Passed as command-line arguments: they must win over application.yml, default properties would not
+    public static ConfigurableApplicationContext start(String... extraProperties)
+    {
+        String[] args = Stream.concat(
+                Stream.of(
+                    "server.port=0",
+                    "spring.jpa.show-sql=false",
+                    "logging.level.root=WARN",
+                    "logging.level.com.securetask=WARN",
+                    "logging.level.org.springframework.security=WARN"),
+                Stream.of(extraProperties))
+            .map(property -> "--" + property)
+            .toArray(String[]::new);
+
+        return new SpringApplicationBuilder(Application.class)
+            .profiles("test")
+            .run(args);
+    }
+}
@@ -0,0 +1,98 @@
+package com.securetask.Benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import com.securetask.Config.JwtConfig;
+import com.securetask.Entitity.User;
+import com.securetask.Service.auth.JwtPrincipalConverter;
+import com.securetask.Service.auth.JwtTokenService;
+
+/**
+ * Token work done on login/refresh (encode) and on every authenticated request
+ * (decode + signature check in the NimbusJwtDecoder of JwtConfig, then principal conversion).
+ * Only the JWT beans are started, with the same configuration classes as the application.
+ * decoderCacheSize=0 measures the bare decoder, otherwise decode() hits the verified-token cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JwtBenchmark {
+
+    @Param({"0", "10000"})
+    public int decoderCacheSize;
+
+    private AnnotationConfigApplicationContext context;
+    private JwtTokenService jwtTokenService;
+    private JwtDecoder jwtDecoder;
+    private JwtPrincipalConverter principalConverter;
+
+    private String token;
+    private Jwt jwt;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+            "jwt.secret", "3z8TnaR1y9vjAPBzU0Fut927bQgoJdaMFnsBcWFV1Ck=",
+            "jwt.expiration", "3600000",
+            "spring.application.name", "secure-task-manager",
+            "jwt.decoder-cache.max-size", String.valueOf(decoderCacheSize))));
+        context.register(JwtConfig.class, JwtTokenService.class, JwtPrincipalConverter.class);
+        context.refresh();
+
+        jwtTokenService = context.getBean(JwtTokenService.class);
+        jwtDecoder = context.getBean(JwtDecoder.class);
+        principalConverter = context.getBean(JwtPrincipalConverter.class);
+
+        token = jwtTokenService.generateToken(1L, "bench@test.com", User.Role.USER).getTokenValue();
+        jwt = jwtDecoder.decode(token);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        context.close();
+    }
+
+    @Benchmark
+    public Jwt generateToken()
+    {
+        return jwtTokenService.generateToken(1L, "bench@test.com", User.Role.USER);
+    }
+
+    @Benchmark
+    public Jwt decode()
+    {
+        return jwtDecoder.decode(token);
+    }
+
+    @Benchmark
+    public AbstractAuthenticationToken convertPrincipal()
+    {
+        return principalConverter.convert(jwt);
+    }
+}
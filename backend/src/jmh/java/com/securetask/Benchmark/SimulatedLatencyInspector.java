@@ -0,0 +1,28 @@
+package com.securetask.Benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Adds a fixed delay to every SQL statement, standing in for the network round trip of a remote
+ * database so that the in-memory H2 profile blocks on JDBC like production does.
+ * The delay is read from the {@code benchmark.statement-latency-ms} system property.
+ */
+public class SimulatedLatencyInspector implements StatementInspector {
+
+    private static final long LATENCY_MS = Long.getLong("benchmark.statement-latency-ms", 0);
+
+    @Override
+    public String inspect(String sql)
+    {
+        if (LATENCY_MS > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(LATENCY_MS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return sql;
+    }
+}
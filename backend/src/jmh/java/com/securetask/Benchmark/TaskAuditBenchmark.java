@@ -0,0 +1,103 @@
+package com.securetask.Benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.securetask.DTO.requests.CreateTaskRequest;
+import com.securetask.DTO.requests.UpdateTaskRequest;
+import com.securetask.DTO.responses.TaskResponse;
+import com.securetask.Entitity.User;
+import com.securetask.Entitity.auth.AuthPrincipal;
+import com.securetask.Entitity.auth.AuthPrincipalAuthenticationToken;
+import com.securetask.Repository.UserRepository;
+import com.securetask.Service.TaskService;
+
+/**
+ * Write path cost of the task audit trail: the same writes as {@link TaskServiceBenchmark}, with
+ * TaskAuditWriter off and on. With it on, the writer flushes in the background during the
+ * measurement, as it would in production.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskAuditBenchmark {
+
+    @Param({"false", "true"})
+    private boolean audited;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+
+    private Long taskId;
+    private CreateTaskRequest createRequest;
+    private UpdateTaskRequest[] updateRequests;
+    private int updates;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        context = BenchmarkApplication.start("tasks.audit.enabled=" + audited, "tasks.audit.flush-interval=100ms");
+        taskService = context.getBean(TaskService.class);
+
+        User user = context.getBean(UserRepository.class).save(User.builder()
+            .username("bench")
+            .email("bench@test.com")
+            .password("not-used")
+            .role(User.Role.USER)
+            .build());
+
+        AuthPrincipal principal = new AuthPrincipal(user.getId(), user.getEmail(), user.getRole());
+        SecurityContextHolder.getContext().setAuthentication(new AuthPrincipalAuthenticationToken(
+            principal, null, List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))));
+
+        createRequest = new CreateTaskRequest("Benchmark task", "Benchmark task description", null);
+        // Alternating titles: an update that changes nothing records nothing
+        updateRequests = new UpdateTaskRequest[] {
+            new UpdateTaskRequest("Renamed task", "Updated description", null, null, null, null),
+            new UpdateTaskRequest("Renamed task again", "Updated description", null, null, null, null)
+        };
+        taskId = taskService.createTask(createRequest).id();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @Benchmark
+    public TaskResponse update()
+    {
+        return taskService.updateTask(taskId, updateRequests[updates++ & 1], null);
+    }
+
+    // Paired with the delete so the table does not grow across iterations
+    @Benchmark
+    public Long createAndDelete()
+    {
+        Long createdId = taskService.createTask(createRequest).id();
+        taskService.deleteTask(createdId);
+        return createdId;
+    }
+}
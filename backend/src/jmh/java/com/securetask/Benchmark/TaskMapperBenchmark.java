@@ -0,0 +1,87 @@
+package com.securetask.Benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.securetask.DTO.requests.UpdateTaskRequest;
+import com.securetask.DTO.responses.TaskResponse;
+import com.securetask.Entitity.Task;
+import com.securetask.Entitity.User;
+import com.securetask.Mapper.TaskMapper;
+
+/**
+ * Per-request mapping work of the task endpoints, without Spring or a database:
+ * entity to response, update request onto entity, and the status transition rule.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TaskMapperBenchmark {
+
+    private final TaskMapper taskMapper = new TaskMapper();
+
+    private Task task;
+    private UpdateTaskRequest updateRequest;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        User user = User.builder().id(1L).username("bench").email("bench@test.com").role(User.Role.USER).build();
+
+        task = Task.builder()
+            .id(42L)
+            .title("Benchmark task")
+            .description("A description of typical length for a task in the backlog")
+            .status(Task.StatusEnum.IN_PROGRESS)
+            .priority(Task.PriorityEnum.HIGH)
+            .dueDate(LocalDateTime.now().plusDays(3))
+            .assignee(user)
+            .createdBy(user)
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .version(3L)
+            .build();
+
+        updateRequest = new UpdateTaskRequest("Renamed task", "New description", Task.StatusEnum.DONE,
+            Task.PriorityEnum.LOW, LocalDateTime.now().plusDays(7), null);
+    }
+
+    @Benchmark
+    public TaskResponse toResponse()
+    {
+        return taskMapper.toResponse(task);
+    }
+
+    @Benchmark
+    public Task updateFromRequest()
+    {
+        return taskMapper.updateFromRequest(updateRequest, task);
+    }
+
+    // Every (current, next) pair, as checked by TaskServiceImpl before a status change
+    @Benchmark
+    public void statusTransition(Blackhole blackhole)
+    {
+        for (Task.StatusEnum current : Task.StatusEnum.values()) {
+            for (Task.StatusEnum next : Task.StatusEnum.values()) {
+                blackhole.consume(current.canTransitionTo(next));
+            }
+        }
+    }
+}
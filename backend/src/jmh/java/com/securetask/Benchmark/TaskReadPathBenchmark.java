@@ -0,0 +1,119 @@
+package com.securetask.Benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.securetask.DTO.responses.TaskResponse;
+import com.securetask.Entitity.Task;
+import com.securetask.Entitity.User;
+import com.securetask.Mapper.TaskMapper;
+import com.securetask.Repository.TaskRepository;
+import com.securetask.Repository.UserRepository;
+
+/**
+ * Entity + TaskMapper read path versus the TaskResponse constructor-expression projection.
+ * Run with "-prof gc" (the profile default) to compare gc.alloc.rate.norm per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskReadPathBenchmark {
+
+    @Param({"1", "100"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private TaskMapper taskMapper;
+    private TransactionTemplate readOnly;
+
+    private Long userId;
+    private Long taskId;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        context = BenchmarkApplication.start();
+        taskRepository = context.getBean(TaskRepository.class);
+        taskMapper = context.getBean(TaskMapper.class);
+
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        User user = context.getBean(UserRepository.class).save(User.builder()
+            .username("bench")
+            .email("bench@test.com")
+            .password("not-used")
+            .role(User.Role.USER)
+            .build());
+        userId = user.getId();
+
+        for (int i = 0; i < rows; i++) {
+            Task task = taskRepository.save(Task.builder()
+                .title("Task " + i)
+                .description("Benchmark task description " + i)
+                .status(Task.StatusEnum.TODO)
+                .priority(Task.PriorityEnum.MEDIUM)
+                .assignee(user)
+                .createdBy(user)
+                .build());
+            taskId = task.getId();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskResponse getByIdEntity()
+    {
+        return readOnly.execute(status -> taskRepository.findById(taskId)
+            .map(taskMapper::toResponse)
+            .orElseThrow());
+    }
+
+    @Benchmark
+    public TaskResponse getByIdProjection()
+    {
+        return readOnly.execute(status -> taskRepository.findResponseByIdAccessibleBy(taskId, userId, false).orElseThrow());
+    }
+
+    @Benchmark
+    public List<TaskResponse> listEntity()
+    {
+        return readOnly.execute(status -> taskRepository.findAllByCreatedById(userId)
+            .stream()
+            .map(taskMapper::toResponse)
+            .toList());
+    }
+
+    @Benchmark
+    public List<TaskResponse> listProjection()
+    {
+        return readOnly.execute(status -> taskRepository.findResponsePageByCreatedById(userId, Limit.of(rows)));
+    }
+}
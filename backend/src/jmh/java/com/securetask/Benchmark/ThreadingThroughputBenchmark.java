@@ -0,0 +1,145 @@
+package com.securetask.Benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.securetask.DTO.requests.CreateTaskRequest;
+import com.securetask.DTO.requests.RegisterRequest;
+
+/**
+ * End-to-end throughput of a JDBC-bound endpoint (GET /api/v1/tasks) under a burst of concurrent
+ * clients, on Tomcat's platform-thread pool versus virtual threads.
+ *
+ * Every SQL statement is delayed by {@code latencyMs} (see SimulatedLatencyInspector) so that request
+ * threads spend their time blocked on the database, as they do against Postgres. One operation is one
+ * burst of {@code concurrency} requests; requests/s = score x concurrency.
+ *
+ *   mvn -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args="ThreadingThroughputBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Dbenchmark.statement-latency-ms=5")
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ThreadingThroughputBenchmark {
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    // Hikari pool size: with a small pool the database, not the thread model, is the bottleneck
+    @Param({"10", "100"})
+    public int poolSize;
+
+    @Param({"500"})
+    public int concurrency;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private ObjectMapper objectMapper;
+    private ExecutorService clients;
+    private String baseUrl;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception
+    {
+        context = BenchmarkApplication.start(
+            "spring.threads.virtual.enabled=" + virtualThreads,
+            "spring.datasource.hikari.maximum-pool-size=" + poolSize,
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector=" + SimulatedLatencyInspector.class.getName(),
+            "jwt.expiration=3600000",
+            // Keep the load generator's connections open: reconnect storms would overflow the accept backlog
+            "server.tomcat.accept-count=" + concurrency,
+            "server.tomcat.max-keep-alive-requests=-1",
+            "datasource.connection-limiter.acquire-timeout=60s"
+        );
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port;
+        objectMapper = context.getBean(ObjectMapper.class);
+        httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+        clients = Executors.newVirtualThreadPerTaskExecutor();
+
+        HttpResponse<String> registered = post("/api/v1/auth/register", null,
+            new RegisterRequest("bench", "bench@test.com", "SecurePass123!", "SecurePass123!"));
+        token = objectMapper.readTree(registered.body()).get("token").asText();
+
+        for (int i = 0; i < 20; i++) {
+            post("/api/v1/tasks", token, new CreateTaskRequest("Task " + i, "Benchmark task description " + i, null));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        clients.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int burst() throws Exception
+    {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/tasks"))
+            .header("Authorization", "Bearer " + token)
+            .GET()
+            .build();
+
+        List<Future<HttpResponse<Void>>> responses = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            responses.add(clients.submit(() -> httpClient.send(request, HttpResponse.BodyHandlers.discarding())));
+        }
+
+        int failures = 0;
+        for (Future<HttpResponse<Void>> response : responses) {
+            if (response.get().statusCode() != 200) {
+                failures++;
+            }
+        }
+        if (failures > 0) {
+            throw new IllegalStateException(failures + " of " + concurrency + " requests failed");
+        }
+        return concurrency;
+    }
+
+
+    private HttpResponse<String> post(String path, String bearer, Object body) throws Exception
+    {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+
+        if (bearer != null) {
+            request.header("Authorization", "Bearer " + bearer);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
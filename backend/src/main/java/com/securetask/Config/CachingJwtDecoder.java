@@ -0,0 +1,67 @@
+package com.securetask.Config;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.securetask.Service.auth.TokenDigest;
+
+/**
+ * Remembers tokens that already passed signature and claim validation.
+ *
+ * A client sends the same access token on every request until it expires, so the HMAC check and
+ * claim parsing only need to happen once per token. Entries are keyed by a fixed-length SHA-256
+ * digest of the token and live no longer than the token's {@code exp}.
+ * Rejected tokens are never cached, they go through the delegate every time.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> verifiedTokens;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maxSize) {
+        this.delegate = delegate;
+        this.verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(Expiry.creating((String digest, Jwt jwt) -> timeToExpiry(jwt)))
+            .recordStats()
+            .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String digest = TokenDigest.sha256Hex(token);
+        Jwt cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && isUnexpired(cached)) {
+            return cached;
+        }
+
+        // getIfPresent/put rather than get(key, loader), so the verification never runs under the cache's bin lock
+        Jwt jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null) {
+            verifiedTokens.put(digest, jwt);
+        }
+        return jwt;
+    }
+
+    public Cache<String, Jwt> cache() {
+        return verifiedTokens;
+    }
+
+
+    // The cache's expiry is best effort between maintenance runs, so the exp claim is checked again on a hit
+    private static boolean isUnexpired(Jwt jwt) {
+        return Instant.now().isBefore(jwt.getExpiresAt());
+    }
+
+    private static Duration timeToExpiry(Jwt jwt) {
+        Duration remaining = Duration.between(Instant.now(), jwt.getExpiresAt());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+}
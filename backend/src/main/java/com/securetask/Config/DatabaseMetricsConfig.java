@@ -0,0 +1,75 @@
+package com.securetask.Config;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Hooks {@link RequestDatabaseActivity} into the DataSource and Hibernate; {@link RequestDatabaseMetricsFilter} records it.
+ *
+ * Global Hibernate statistics (hibernate.*) and the Hikari pool (hikaricp.*) are bound by Spring Boot
+ * itself, from hibernate-micrometer and generate_statistics; this adds the per-request view.
+ */
+@Configuration
+public class DatabaseMetricsConfig {
+
+    // Ordered, so it wraps the pool before unordered post-processors (the virtual-thread connection limiter) see it
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor()
+    {
+        return new StatementCountingPostProcessor();
+    }
+
+    // Static: the customizer is needed while the EntityManagerFactory is being built
+    @Bean
+    public static HibernatePropertiesCustomizer requestDatabaseActivityListeners()
+    {
+        return properties -> {
+            properties.put("hibernate.session.events.auto", RequestDatabaseActivity.SessionCounter.class.getName());
+            properties.put("hibernate.integrator_provider", (IntegratorProvider) () -> List.of(new EntityLoadIntegrator()));
+        };
+    }
+
+
+    private static final class StatementCountingPostProcessor implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+            return bean instanceof DataSource dataSource ? new StatementCountingDataSource(dataSource) : bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+
+    private static final class EntityLoadIntegrator implements Integrator {
+
+        @Override
+        public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+            sessionFactory.getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, new RequestDatabaseActivity.EntityLoadCounter());
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.securetask.Config;
 
 import javax.crypto.spec.SecretKeySpec;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,24 +14,38 @@ import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
 @Configuration
 public class JwtConfig {
-    
+
     @Value("${jwt.secret}")
     private String jwtKey;
 
+    // 0 turns the verified-token cache off
+    @Value("${jwt.decoder-cache.max-size:0}")
+    private long decoderCacheMaxSize;
+
     @Bean
     public JwtEncoder jwtEncoder() {
         return new NimbusJwtEncoder(new ImmutableSecret<>(jwtKey.getBytes()));
     }
 
     @Bean
-    public JwtDecoder jwtDecoder() {
+    public JwtDecoder jwtDecoder(ObjectProvider<MeterRegistry> meterRegistry) {
         byte[] bytes = jwtKey.getBytes();
         SecretKeySpec originalKey = new SecretKeySpec(bytes, 0, bytes.length,"RSA");
-        return NimbusJwtDecoder.withSecretKey(originalKey)
+        JwtDecoder decoder = NimbusJwtDecoder.withSecretKey(originalKey)
                 .macAlgorithm(MacAlgorithm.HS256)
                 .build();
+
+        if (decoderCacheMaxSize <= 0) {
+            return decoder;
+        }
+        CachingJwtDecoder cachingDecoder = new CachingJwtDecoder(decoder, decoderCacheMaxSize);
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cachingDecoder.cache(), "jwt.verified"));
+        return cachingDecoder;
     }
 
 }
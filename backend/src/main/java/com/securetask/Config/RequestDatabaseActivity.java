@@ -0,0 +1,76 @@
+package com.securetask.Config;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+
+/**
+ * Database work done while serving the current HTTP request: statements prepared, entities loaded
+ * and flushes. Opened and recorded by {@link RequestDatabaseMetricsFilter}, fed on the same thread
+ * (one request, one thread, virtual or not) by {@link StatementCountingDataSource} for statements,
+ * whatever issued them, and by the Hibernate listeners below (registered in
+ * {@link DatabaseMetricsConfig}) for the rest. Outside a request, e.g. in scheduled jobs, nothing is counted.
+ */
+public final class RequestDatabaseActivity {
+
+    private static final ThreadLocal<RequestDatabaseActivity> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int entityLoads;
+    private int flushes;
+
+    private RequestDatabaseActivity() {}
+
+    static RequestDatabaseActivity begin() {
+        RequestDatabaseActivity activity = new RequestDatabaseActivity();
+        CURRENT.set(activity);
+        return activity;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static void statementPrepared() {
+        RequestDatabaseActivity activity = CURRENT.get();
+        if (activity != null) {
+            activity.statements++;
+        }
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public int entityLoads() {
+        return entityLoads;
+    }
+
+    public int flushes() {
+        return flushes;
+    }
+
+
+    public static final class EntityLoadCounter implements PostLoadEventListener {
+
+        @Override
+        public void onPostLoad(PostLoadEvent event) {
+            RequestDatabaseActivity activity = CURRENT.get();
+            if (activity != null) {
+                activity.entityLoads++;
+            }
+        }
+    }
+
+    // Registered with hibernate.session.events.auto: Hibernate creates one per session
+    public static final class SessionCounter extends BaseSessionEventListener {
+
+        @Override
+        public void flushEnd(int numberOfEntities, int numberOfCollections) {
+            RequestDatabaseActivity activity = CURRENT.get();
+            if (activity != null) {
+                activity.flushes++;
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.securetask.Config;
+
+import java.io.IOException;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Records the database work of each request as histograms, tagged like http.server.requests
+ * (method and route template): {@code http.server.requests.db.statements},
+ * {@code http.server.requests.db.entity.loads} and {@code http.server.requests.db.flushes}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestDatabaseMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestDatabaseMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException
+    {
+        RequestDatabaseActivity activity = RequestDatabaseActivity.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDatabaseActivity.end();
+
+            // Route template once the handler is resolved; requests rejected before that share one series
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = route != null ? route.toString() : "UNKNOWN";
+
+            record("http.server.requests.db.statements", "JDBC statements prepared per request, a batch counts once", request.getMethod(), uri, activity.statements());
+            record("http.server.requests.db.entity.loads", "Entities loaded per request, from the database or the second-level cache", request.getMethod(), uri, activity.entityLoads());
+            record("http.server.requests.db.flushes", "Persistence context flushes per request", request.getMethod(), uri, activity.flushes());
+        }
+    }
+
+
+    private void record(String name, String description, String method, String uri, int amount) {
+        DistributionSummary.builder(name)
+            .description(description)
+            .tag("method", method)
+            .tag("uri", uri)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(amount);
+    }
+}
@@ -0,0 +1,10 @@
+package com.securetask.Config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Background jobs (@Scheduled), e.g. RefreshTokenSweeper
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,5 +1,8 @@
 package com.securetask.Config;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -13,7 +16,9 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
-import static org.springframework.security.config.Customizer.withDefaults;
+import com.securetask.Service.auth.JwtPrincipalConverter;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 @EnableWebSecurity
@@ -21,7 +26,7 @@ public class SecurityConfig {
     
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtPrincipalConverter jwtPrincipalConverter) throws Exception {
         return http
             .csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(auth -> auth
@@ -29,21 +34,29 @@ public class SecurityConfig {
                 .requestMatchers("/api/v1/auth/login", "/api/v1/auth/register", "/api/v1/auth/refresh").permitAll()
                 .requestMatchers("/v3/api-docs/**","/swagger-ui.html/**", "/swagger-ui/**", "/api-docs/**").permitAll()
                 .requestMatchers("/error").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
-                .requestMatchers("/api/v1/manager/**").hasRole("MANAGER")
+                .requestMatchers("/api/v1/manager/**").hasAnyRole("MANAGER", "ADMIN")
                 .anyRequest().authenticated()
             )
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .oauth2ResourceServer(oauth2 -> {
-                oauth2.jwt(withDefaults());
+                oauth2.jwt(jwt -> jwt.jwtAuthenticationConverter(jwtPrincipalConverter));
             })
             .build();
     }
 
 
+    // Hashing runs on its own bounded pool, see BoundedPasswordEncoder
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder(10);
+    public PasswordEncoder passwordEncoder(
+        MeterRegistry meterRegistry,
+        @Value("${password-hashing.threads}") int threads,
+        @Value("${password-hashing.queue-capacity}") int queueCapacity,
+        @Value("${password-hashing.retry-after}") Duration retryAfter)
+    {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(10), threads, queueCapacity, retryAfter, meterRegistry);
     }
 
     @Bean
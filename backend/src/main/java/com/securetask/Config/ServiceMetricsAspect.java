@@ -0,0 +1,59 @@
+package com.securetask.Config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every TaskService and AuthService call as {@code service.calls}, tagged with the service,
+ * the method, the outcome (success/error) and the exception class on error.
+ *
+ * Ordered first, so the timer wraps the transaction and a failed commit counts as an error.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.securetask.Service.TaskService+.*(..)) "
+        + "|| execution(public * com.securetask.Service.auth.AuthService.*(..))")
+    public Object timeServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            outcome = "error";
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder("service.calls")
+                .description("TaskService and AuthService calls")
+                .tag("service", serviceName(joinPoint))
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .register(meterRegistry));
+        }
+    }
+
+
+    // TaskServiceImpl reports as TaskService, the name callers know
+    private static String serviceName(ProceedingJoinPoint joinPoint) {
+        String name = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        return name.endsWith("Impl") ? name.substring(0, name.length() - "Impl".length()) : name;
+    }
+}
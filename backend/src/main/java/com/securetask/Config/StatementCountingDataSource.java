@@ -0,0 +1,55 @@
+package com.securetask.Config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Counts every statement prepared on the application DataSource into the current request's
+ * {@link RequestDatabaseActivity}, whoever issues it: Hibernate, JdbcTemplate or a native query.
+ * A JDBC batch is prepared once, so it counts once: it is one round trip.
+ * Installed by {@link DatabaseMetricsConfig}.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("prepareStatement", "prepareCall", "createStatement");
+
+    public StatementCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return counting(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return counting(super.getConnection(username, password));
+    }
+
+
+    private static Connection counting(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            (proxy, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(connection, args);
+                } catch (InvocationTargetException ex) {
+                    throw ex.getCause();
+                }
+                if (STATEMENT_FACTORIES.contains(method.getName())) {
+                    RequestDatabaseActivity.statementPrepared();
+                }
+                return result;
+            });
+    }
+}
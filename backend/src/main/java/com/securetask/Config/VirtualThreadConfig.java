@@ -0,0 +1,61 @@
+package com.securetask.Config;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Virtual-thread mode, switched on with {@code spring.threads.virtual.enabled}.
+ * Spring Boot then runs Tomcat requests, the application task executor and the task scheduler on
+ * virtual threads; this adds the connection limiter in front of the Hikari pool.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+        @Value("${datasource.connection-limiter.acquire-timeout}") Duration acquireTimeout)
+    {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                // One permit per pooled connection: the pool never has more waiters than it can serve.
+                // The pool may already be wrapped (StatementCountingDataSource), the limiter goes outside
+                if (bean instanceof DataSource dataSource && isWrapperFor(dataSource, HikariDataSource.class)) {
+                    HikariDataSource hikari = unwrap(dataSource, HikariDataSource.class);
+                    return new ConnectionLimitingDataSource(dataSource, hikari.getMaximumPoolSize(), acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+
+    private static boolean isWrapperFor(DataSource dataSource, Class<?> type) {
+        try {
+            return dataSource.isWrapperFor(type);
+        } catch (SQLException ex) {
+            return false;
+        }
+    }
+
+    private static <T> T unwrap(DataSource dataSource, Class<T> type) {
+        try {
+            return dataSource.unwrap(type);
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Cannot reach the connection pool behind " + dataSource, ex);
+        }
+    }
+}
@@ -9,8 +9,10 @@ import com.securetask.DTO.requests.RefreshTokenRequest;
 import com.securetask.DTO.requests.RegisterRequest;
 import com.securetask.DTO.responses.AuthResponse;
 import com.securetask.Service.auth.AuthService;
+import com.securetask.Service.auth.AuthThrottle;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -26,28 +28,34 @@ import org.springframework.web.bind.annotation.RequestBody;
 public class AuthController {
 
     private final AuthService authService;
+    private final AuthThrottle authThrottle;
 
+    // Throttled here, before the request can reach the password encoder
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody AuthRequest authRequest) 
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody AuthRequest authRequest, HttpServletRequest request) 
     {
+        authThrottle.checkCredentialAttempt(request.getRemoteAddr(), authRequest.getEmail());
         return ResponseEntity.ok(authService.authenticate(authRequest));
     }
 
     @PostMapping("/register")
-    public ResponseEntity<AuthResponse> registerUser(@Valid @RequestBody RegisterRequest userRequest) 
+    public ResponseEntity<AuthResponse> registerUser(@Valid @RequestBody RegisterRequest userRequest, HttpServletRequest request) 
     {
+        authThrottle.checkCredentialAttempt(request.getRemoteAddr(), userRequest.getEmail());
         return ResponseEntity.status(HttpStatus.CREATED).body(authService.register(userRequest));
     }
 
     @PostMapping("/refresh")
-    public ResponseEntity<AuthResponse> refreshToken(@Valid @RequestBody RefreshTokenRequest request) 
+    public ResponseEntity<AuthResponse> refreshToken(@Valid @RequestBody RefreshTokenRequest request, HttpServletRequest httpRequest) 
     {
+        authThrottle.checkClient(httpRequest.getRemoteAddr());
         return ResponseEntity.ok(authService.refresh(request));
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(@Valid @RequestBody LogoutRequest request) 
+    public ResponseEntity<Void> logout(@Valid @RequestBody LogoutRequest request, HttpServletRequest httpRequest) 
     {
+        authThrottle.checkClient(httpRequest.getRemoteAddr());
         authService.logout(request);
         return ResponseEntity.noContent().build();
     }
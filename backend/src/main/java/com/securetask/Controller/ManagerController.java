@@ -0,0 +1,42 @@
+package com.securetask.Controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.securetask.DTO.responses.UserTaskSummaryResponse;
+import com.securetask.Service.TaskService;
+
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+// MANAGER and ADMIN roles, see SecurityConfig
+@RestController
+@RequestMapping("/api/v1/manager")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Manager", description = "Team dashboards")
+public class ManagerController {
+
+    private final TaskService taskService;
+
+    // Task writes through the API are counted when they commit; other writes to tasks only once the
+    // reconciliation has run (tasks.counts.reconciliation-interval)
+    @GetMapping("/task-summary")
+    public ResponseEntity<List<UserTaskSummaryResponse>> getTaskSummaries()
+    {
+        return ResponseEntity.ok(taskService.getTaskSummaries());
+    }
+
+    @GetMapping("/users/{userId}/task-summary")
+    public ResponseEntity<UserTaskSummaryResponse> getTaskSummary(@PathVariable @NonNull Long userId)
+    {
+        return ResponseEntity.ok(taskService.getTaskSummaryForUser(userId));
+    }
+}
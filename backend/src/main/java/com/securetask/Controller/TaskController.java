@@ -3,10 +3,21 @@ package com.securetask.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.securetask.DTO.requests.BatchCreateTaskRequest;
+import com.securetask.DTO.requests.BulkTaskStatusUpdateRequest;
 import com.securetask.DTO.requests.CreateTaskRequest;
+import com.securetask.DTO.requests.TaskFilterRequest;
 import com.securetask.DTO.requests.TaskStatusUpdateRequest;
 import com.securetask.DTO.requests.UpdateTaskRequest;
+import com.securetask.DTO.responses.BatchCreateTaskResponse;
+import com.securetask.DTO.responses.BulkTaskStatusUpdateResponse;
+import com.securetask.DTO.responses.PageResponse;
+import com.securetask.DTO.responses.TaskChangesResponse;
+import com.securetask.DTO.responses.TaskHistoryEntry;
 import com.securetask.DTO.responses.TaskResponse;
+import com.securetask.Repository.TaskListVersion;
+import com.securetask.Entitity.auth.AuthPrincipal;
+import com.securetask.Service.TaskEventBroadcaster;
 import com.securetask.Service.TaskService;
 
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -14,11 +25,22 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -26,6 +48,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 
 @RestController
@@ -35,42 +61,130 @@ import org.springframework.web.bind.annotation.RequestBody;
 @Tag(name = "Tasks", description = "Task CRUD operations")
 public class TaskController {
 
+    // Cacheable by the client only, and revalidated (If-None-Match) before every reuse
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final TaskService taskService;
+    private final TaskEventBroadcaster taskEventBroadcaster;
 
     @GetMapping
-    public ResponseEntity<List<TaskResponse>> getMyTasks() 
+    public ResponseEntity<PageResponse<TaskResponse>> getMyTasks(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size,
+        WebRequest webRequest) 
     {
-        return ResponseEntity.ok(taskService.getAllTasksCreatedByAuthUser());
+        return conditionalList(webRequest, taskService::getCreatedTaskListVersion, () -> taskService.getAllTasksCreatedByAuthUser(cursor, size));
     }
 
     @GetMapping("/assigned")
-     public ResponseEntity<List<TaskResponse>> getMyAssignedTasks() 
+    public ResponseEntity<PageResponse<TaskResponse>> getMyAssignedTasks(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size,
+        WebRequest webRequest) 
+    {
+        return conditionalList(webRequest, taskService::getAssignedTaskListVersion, () -> taskService.getAllTasksAssignedToAuthUser(cursor, size));
+    }
+
+    // e.g. /filter?status=IN_PROGRESS&priority=HIGH&dueTo=2026-01-01T00:00:00
+    // No ETag on filter and search: for admins and managers it would fingerprint the whole table
+    @GetMapping("/filter")
+    public ResponseEntity<PageResponse<TaskResponse>> filter(
+        TaskFilterRequest filter,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size) 
+    {
+        return ResponseEntity.ok(taskService.filterTasks(filter, cursor, size));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<PageResponse<TaskResponse>> search(
+        @RequestParam String q,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size) 
+    {
+        return ResponseEntity.ok(taskService.searchTasks(q, cursor, size));
+    }
+
+    // Delta sync: store nextCursor and send it back, 410 Gone when a full sync (no cursor) is needed
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChangesResponse> getChanges(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size)
+    {
+        return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(taskService.getTaskChangesForAuthUser(cursor, size));
+    }
+
+    // Server-Sent Events: a "task" event (TaskEvent) per change to a task the caller created or is
+    // assigned to, and "resync" when some were dropped: catch up with /changes before relying on the stream
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@AuthenticationPrincipal AuthPrincipal principal)
     {
-        return ResponseEntity.ok(taskService.getAllTasksAssignedToAuthUser());
+        return taskEventBroadcaster.subscribe(principal.id());
     }
 
+    // A matching If-None-Match is answered 304 by Spring from the ETag below, without writing the body
     @GetMapping("/{id}")
     public ResponseEntity<TaskResponse> getById(@PathVariable @NonNull Long id) 
     {
-        return ResponseEntity.ok(taskService.getTaskById(id));
+        TaskResponse task = taskService.getTaskById(id);
+        return ResponseEntity.ok().eTag(taskETag(task)).cacheControl(REVALIDATE).body(task);
+    }
+
+    // Who changed which field, newest first
+    @GetMapping("/{id}/history")
+    public ResponseEntity<PageResponse<TaskHistoryEntry>> getHistory(
+        @PathVariable @NonNull Long id,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size)
+    {
+        return ResponseEntity.ok(taskService.getTaskHistory(id, cursor, size));
     }
 
     @PostMapping
     public ResponseEntity<TaskResponse> create(@Valid @RequestBody CreateTaskRequest request) 
     {
-        return ResponseEntity.status(HttpStatus.CREATED).body(taskService.createTask(request));
+        TaskResponse task = taskService.createTask(request);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(taskETag(task)).body(task);
     }
 
+    // 201 when every item was created, 207 when some items were rejected (see "errors")
+    @PostMapping("/batch")
+    public ResponseEntity<BatchCreateTaskResponse> createBatch(@Valid @RequestBody BatchCreateTaskRequest request) 
+    {
+        BatchCreateTaskResponse response = taskService.createTasks(request.tasks());
+        HttpStatus status = response.errors().isEmpty() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    // With If-Match, 412 unless the task is still at one of the versions it lists
     @PutMapping("/{id}")
-    public ResponseEntity<TaskResponse> update(@PathVariable @NonNull Long id, @Valid @RequestBody UpdateTaskRequest request) 
+    public ResponseEntity<TaskResponse> update(
+        @PathVariable @NonNull Long id,
+        @Valid @RequestBody UpdateTaskRequest request,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) 
     {
-        return ResponseEntity.ok(taskService.updateTask(id, request));
+        TaskResponse task = taskService.updateTask(id, request, expectedVersions(ifMatch));
+        return ResponseEntity.ok().eTag(taskETag(task)).body(task);
     }
 
     @PatchMapping("/{id}/status")
-    public ResponseEntity<TaskResponse> updateStatus(@PathVariable @NonNull Long id, @RequestBody @Valid TaskStatusUpdateRequest request) 
+    public ResponseEntity<TaskResponse> updateStatus(
+        @PathVariable @NonNull Long id,
+        @RequestBody @Valid TaskStatusUpdateRequest request,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) 
+    {
+        TaskResponse task = taskService.updateTaskStatus(id, request.newStatus(), expectedVersions(ifMatch));
+        return ResponseEntity.ok().eTag(taskETag(task)).body(task);
+    }
+
+    // 200 when every task moved, 207 when some did not (see each result's outcome)
+    @PatchMapping("/status")
+    public ResponseEntity<BulkTaskStatusUpdateResponse> updateStatusBatch(@RequestBody @Valid BulkTaskStatusUpdateRequest request) 
     {
-        return ResponseEntity.ok(taskService.updateTaskStatus(id, request.newStatus()));
+        BulkTaskStatusUpdateResponse response = taskService.updateTasksStatus(request.taskIds(), request.newStatus());
+        boolean allUpdated = response.results().stream()
+            .allMatch(result -> result.outcome() == BulkTaskStatusUpdateResponse.Outcome.UPDATED);
+        return ResponseEntity.status(allUpdated ? HttpStatus.OK : HttpStatus.MULTI_STATUS).body(response);
     }
 
     @DeleteMapping("/{id}")
@@ -80,5 +194,55 @@ public class TaskController {
         return ResponseEntity.noContent().build();
     }
 
-    
+
+    // Strong ETag: every change to a task bumps its @Version
+    private static String taskETag(TaskResponse task)
+    {
+        return ETag.quoteETagIfNecessary(String.valueOf(task.version()));
+    }
+
+    // The list ETag is checked before the page is read: a revalidation costs one aggregate query,
+    // over the rows of that list only, and nothing is mapped or serialized. Weak, as it
+    // fingerprints the data rather than the bytes
+    private <T> ResponseEntity<T> conditionalList(WebRequest webRequest, Supplier<TaskListVersion> listVersion, Supplier<T> page)
+    {
+        TaskListVersion version = listVersion.get();
+        long lastUpdated = version.lastUpdatedAt() != null
+            ? ChronoUnit.MICROS.between(Instant.EPOCH, version.lastUpdatedAt().toInstant(ZoneOffset.UTC))
+            : 0;
+
+        // checkNotModified also sets the ETag header, on the 304 and on the 200
+        if (webRequest.checkNotModified("W/\"" + version.count() + "-" + lastUpdated + "\"")) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(page.get());
+    }
+
+    // If-Match -> the task versions it names (the update applies if any is current), null when
+    // absent or "*" (any current version). Empty when it names none, which the service answers
+    // with 412 once it knows the task exists (404 otherwise)
+    private static Set<Long> expectedVersions(String ifMatch)
+    {
+        if (ifMatch == null) {
+            return null;
+        }
+
+        List<ETag> tags = ETag.parse(ifMatch);
+        if (tags.stream().anyMatch(ETag::isWildcard)) {
+            return null;
+        }
+
+        // If-Match uses the strong comparison: weak and foreign tags match no version
+        Set<Long> versions = new HashSet<>();
+        for (ETag tag : tags) {
+            if (!tag.weak()) {
+                try {
+                    versions.add(Long.valueOf(tag.tag()));
+                } catch (NumberFormatException ignored) {
+                    // not one of our ETags
+                }
+            }
+        }
+        return versions;
+    }
 }
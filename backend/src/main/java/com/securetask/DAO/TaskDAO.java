@@ -1,14 +1,50 @@
 package com.securetask.DAO;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.securetask.DTO.responses.TaskResponse;
 import com.securetask.Entitity.Task;
+import com.securetask.Entitity.TaskAuditEntry;
+import com.securetask.Entitity.TaskCountDelta;
+import com.securetask.Entitity.TaskOutboxEvent;
+import com.securetask.Entitity.TaskTombstone;
+import com.securetask.Entitity.auth.AuthPrincipal;
+import com.securetask.Pagination.HistoryCursor;
+import com.securetask.Pagination.SearchCursor;
+import com.securetask.Pagination.TaskCursor;
+import com.securetask.Repository.TaskAuditRepository;
+import com.securetask.Repository.TaskChangePage;
+import com.securetask.Repository.TaskChangeRepository;
+import com.securetask.Repository.TaskCount;
+import com.securetask.Repository.TaskCountDeltaRepository;
+import com.securetask.Repository.TaskFilterRepository;
+import com.securetask.Repository.TaskListVersion;
+import com.securetask.Repository.TaskOutboxRepository;
 import com.securetask.Repository.TaskRepository;
+import com.securetask.Repository.TaskSearchHit;
+import com.securetask.Repository.TaskSearchRepository;
+import com.securetask.Repository.TaskStatusSnapshot;
+import com.securetask.Repository.TaskTombstoneRepository;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
 
 @Component
 public class TaskDAO {
@@ -16,6 +52,33 @@ public class TaskDAO {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskSearchRepository taskSearchRepository;
+
+    @Autowired
+    private TaskFilterRepository taskFilterRepository;
+
+    @Autowired
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Autowired
+    private TaskChangeRepository taskChangeRepository;
+
+    @Autowired
+    private TaskOutboxRepository taskOutboxRepository;
+
+    @Autowired
+    private TaskAuditRepository taskAuditRepository;
+
+    @Autowired
+    private TaskCountDeltaRepository taskCountDeltaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     public List<Task> findAll() {
         return taskRepository.findAll();
     }
@@ -32,10 +95,217 @@ public class TaskDAO {
         return taskRepository.findAllByCreatedById(createdById);
     }
 
+    // Owner-checked variants: empty (or 0) when the task is missing OR not accessible by the user
+    public Optional<TaskResponse> findResponseByIdForUser(@NonNull Long id, AuthPrincipal user) {
+        return taskRepository.findResponseByIdAccessibleBy(id, user.id(), user.hasElevatedAccess());
+    }
+
+    public boolean existsByIdForUser(@NonNull Long id, AuthPrincipal user) {
+        return taskRepository.findIdAccessibleBy(id, user.id(), user.hasElevatedAccess()).isPresent();
+    }
+
+    // A deleted task the user could access when it was deleted, for as long as its tombstone is kept
+    public boolean existsDeletedForUser(@NonNull Long id, AuthPrincipal user) {
+        return taskTombstoneRepository.existsDeletionAccessibleBy(id, user.id(), user.hasElevatedAccess());
+    }
+
+    // The database checks ownership on the id alone, the entity is then served by the "tasks" region when it holds it
+    public Optional<Task> findByIdForUser(@NonNull Long id, AuthPrincipal user) {
+        return taskRepository.findIdAccessibleBy(id, user.id(), user.hasElevatedAccess())
+            .flatMap(taskRepository::findById);
+    }
+
+    public TaskListVersion findListVersionByCreatedById(@NonNull Long createdById) {
+        return taskRepository.findListVersionByCreatedById(createdById);
+    }
+
+    public TaskListVersion findListVersionByAssigneeId(@NonNull Long assigneeId) {
+        return taskRepository.findListVersionByAssigneeId(assigneeId);
+    }
+
+    // Returns the deleted row, empty when the task is missing or not accessible. The row is locked
+    // first, under the ownership rule, so the tombstone for the change feed, the counter delta and
+    // the caller's audience all describe the state that was deleted: a status change or reassignment
+    // either commits before the lock (and is what gets read) or waits for the delete
+    public Optional<TaskStatusSnapshot> deleteByIdForUser(@NonNull Long id, AuthPrincipal user) {
+        List<TaskStatusSnapshot> locked = jdbcTemplate.query(
+            "SELECT id, status, priority, created_by_user_id, assignee_id, version FROM tasks "
+                + "WHERE id = ? AND (? OR created_by_user_id = ? OR assignee_id = ?) FOR UPDATE",
+            (rs, i) -> new TaskStatusSnapshot(
+                rs.getLong("id"),
+                Task.StatusEnum.valueOf(rs.getString("status")),
+                rs.getString("priority") != null ? Task.PriorityEnum.valueOf(rs.getString("priority")) : null,
+                true,
+                rs.getObject("created_by_user_id", Long.class),
+                rs.getObject("assignee_id", Long.class),
+                rs.getLong("version")),
+            id, user.hasElevatedAccess(), user.id(), user.id());
+        if (locked.isEmpty()) {
+            return Optional.empty();
+        }
+        TaskStatusSnapshot task = locked.get(0);
+
+        // Plain SQL: a JPQL bulk DELETE would evict the whole "tasks" cache region
+        jdbcTemplate.update("DELETE FROM tasks WHERE id = ?", id);
+        evictFromCache(List.of(id));
+
+        taskTombstoneRepository.save(TaskTombstone.builder()
+            .taskId(id)
+            .createdByUserId(task.createdByUserId())
+            .assigneeId(task.assigneeId())
+            .deletedAt(LocalDateTime.now())
+            .build());
+        if (task.assigneeId() != null) {
+            appendCountDeltas(List.of(new TaskCountDelta(null, task.assigneeId(), task.status(), task.priority(), -1)));
+        }
+        return Optional.of(task);
+    }
+
+    public TaskTombstone saveTombstone(@NonNull TaskTombstone tombstone) {
+        return taskTombstoneRepository.save(tombstone);
+    }
+
+    // Flushed with the task changes, as one JDBC batch (pooled id sequence)
+    public void appendToOutbox(@NonNull List<TaskOutboxEvent> events) {
+        taskOutboxRepository.saveAll(events);
+    }
+
+    // One JDBC batch: Hibernate does not batch inserts into an IDENTITY table
+    public void appendCountDeltas(@NonNull List<TaskCountDelta> deltas) {
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO task_count_deltas (user_id, status, priority, delta) VALUES (?, ?, ?, ?)",
+            deltas, deltas.size(), (ps, delta) -> {
+                ps.setLong(1, delta.getUserId());
+                ps.setString(2, delta.getStatus().name());
+                ps.setString(3, delta.getPriority() != null ? delta.getPriority().name() : null);
+                ps.setInt(4, delta.getDelta());
+            });
+    }
+
+    public List<TaskCount> findTaskCountsByUserId(@NonNull Long userId) {
+        return taskCountDeltaRepository.findCountsByUserId(userId);
+    }
+
+    public List<TaskCount> findAllTaskCounts() {
+        return taskCountDeltaRepository.findAllCounts();
+    }
+
+    // The first page of a full sync has nothing to delete and skips tombstones
+    public TaskChangePage findChangesForUser(@NonNull Long userId, long after, boolean withTombstones, int limit) {
+        return taskChangeRepository.findChanges(userId, after, withTombstones, limit);
+    }
+
+    public List<TaskStatusSnapshot> findStatusSnapshotsForUser(@NonNull Collection<Long> ids, AuthPrincipal user) {
+        return taskRepository.findStatusSnapshots(ids, user.id(), user.hasElevatedAccess());
+    }
+
+    // Compare-and-set on the version read with the snapshots: a row any other write touched since
+    // (status, assignee, deletion) is left alone. Returns the ids this call moved. Plain JDBC, in one
+    // batch, so that only these tasks leave the second-level cache; @Version and @PreUpdate are
+    // bypassed, so the version, update time and change feed position are maintained here
+    public List<Long> transitionStatus(@NonNull List<TaskStatusSnapshot> tasks, Task.StatusEnum next) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[] counts = jdbcTemplate.batchUpdate(
+            "UPDATE tasks SET status = ?, version = version + 1, updated_at = ?, change_seq = NULL WHERE id = ? AND version = ?",
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    ps.setString(1, next.name());
+                    ps.setTimestamp(2, now);
+                    ps.setLong(3, tasks.get(i).id());
+                    ps.setLong(4, tasks.get(i).version());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return tasks.size();
+                }
+            });
+
+        List<Long> moved = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                moved.add(tasks.get(i).id());
+            }
+        }
+        evictFromCache(moved);
+        return moved;
+    }
+
+    // For rows written with plain SQL. Evicted again once the transaction is over, in case a
+    // concurrent read put the old state back in between
+    private void evictFromCache(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Cache cache = entityManagerFactory.getCache();
+        ids.forEach(id -> cache.evict(Task.class, id));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    ids.forEach(id -> cache.evict(Task.class, id));
+                }
+            });
+        }
+    }
+
+    // True when findById will be served from the second-level cache, without SQL
+    public boolean isCached(@NonNull Long id) {
+        return entityManagerFactory.getCache().contains(Task.class, id);
+    }
+
+    public boolean existsById(@NonNull Long id) {
+        return taskRepository.existsById(id);
+    }
+
+    // A null cursor returns the first page
+    public List<TaskResponse> findResponsePageByAssigneeId(@NonNull Long assigneeId, TaskCursor after, int limit) {
+        if (after == null) {
+            return taskRepository.findResponsePageByAssigneeId(assigneeId, Limit.of(limit));
+        }
+        return taskRepository.findResponsePageByAssigneeIdAfter(assigneeId, after.createdAt(), after.id(), Limit.of(limit));
+    }
+
+    public List<TaskResponse> findResponsePageByCreatedById(@NonNull Long createdById, TaskCursor after, int limit) {
+        if (after == null) {
+            return taskRepository.findResponsePageByCreatedById(createdById, Limit.of(limit));
+        }
+        return taskRepository.findResponsePageByCreatedByIdAfter(createdById, after.createdAt(), after.id(), Limit.of(limit));
+    }
+
+    // Newest first, a null cursor returns the first page
+    public List<TaskAuditEntry> findHistoryPage(@NonNull Long taskId, HistoryCursor after, int limit) {
+        if (after == null) {
+            return taskAuditRepository.findByTaskIdOrderByIdDesc(taskId, Limit.of(limit));
+        }
+        return taskAuditRepository.findByTaskIdAndIdLessThanOrderByIdDesc(taskId, after.id(), Limit.of(limit));
+    }
+
+    // Filtered page in keyset order (created_at, id); the cursor is part of the specification
+    public List<TaskResponse> findResponsePageBySpecification(@NonNull Specification<Task> spec, int limit) {
+        return taskFilterRepository.findPage(spec, limit);
+    }
+
+    // Ranked hits among the tasks the user can access, a null cursor returns the first page
+    public List<TaskSearchHit> searchForUser(@NonNull String query, AuthPrincipal user, SearchCursor after, int limit) {
+        return taskSearchRepository.search(query, user.id(), user.hasElevatedAccess(), after, limit);
+    }
+
     public Task save(@NonNull Task task) {
         return taskRepository.save(task);
     }
 
+    // Runs the UPDATE now: the returned task carries its new version and updatedAt
+    public Task saveAndFlush(@NonNull Task task) {
+        return taskRepository.saveAndFlush(task);
+    }
+
+    // Inserts are flushed as JDBC batches (hibernate.jdbc.batch_size, pooled id sequence)
+    public List<Task> saveAll(@NonNull List<Task> tasks) {
+        return taskRepository.saveAll(tasks);
+    }
+
     public void deleteById(@NonNull Long id) {
         taskRepository.deleteById(id);
     }
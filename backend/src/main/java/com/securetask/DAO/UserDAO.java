@@ -1,34 +1,60 @@
 package com.securetask.DAO;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.securetask.Entitity.User;
 import com.securetask.Repository.UserRepository;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+// Lookups by id and by email are served by the second-level cache ("users" and "users.byEmail"
+// regions, see User), which Hibernate keeps in step with every write. Users are returned as loaded,
+// never copied: managed when the caller runs in a transaction. Existence checks always ask the database
 @Component
 public class UserDAO {
-    
+
     @Autowired
-    private UserRepository userRepository;  
+    private UserRepository userRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
 
     public List<User> findAll() {
         return userRepository.findAll();
     }
 
+    // Natural id lookup: email -> id from the natural id cache, then the entity from the "users" region.
+    // Needs a session of its own when the caller has no transaction
+    @Transactional(readOnly = true)
     public Optional<User> findByEmail(String email) {
-        return userRepository.findByEmail(email);
+        if (email == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class)
+            .bySimpleNaturalId(User.class)
+            .loadOptional(email);
     }
 
     public Optional<User> findById(@NonNull Long id) {
         return userRepository.findById(id);
     }
 
+    // Proxy with only the id set, for associations where the user is known to exist (no SELECT)
+    public User getReferenceById(@NonNull Long id) {
+        return userRepository.getReferenceById(id);
+    }
+
     public Optional<User> findByUsername(String username) {
         return userRepository.findByUsername(username);
     }
@@ -41,6 +67,11 @@ public class UserDAO {
         return userRepository.existsById(id);
     }
 
+    // One IN query for a whole set of ids, returns the ones that exist
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        return userRepository.findExistingIds(ids);
+    }
+
     public boolean existsByUsername(String username) {
         return userRepository.existsByUsername(username);
     }
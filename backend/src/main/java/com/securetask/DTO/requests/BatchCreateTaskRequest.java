@@ -0,0 +1,14 @@
+package com.securetask.DTO.requests;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+
+// Items are deliberately not @Valid: each one is validated on its own so that
+// an invalid item is reported without rejecting the whole batch
+public record BatchCreateTaskRequest(
+    @NotEmpty(message = "At least one task is required")
+    List<CreateTaskRequest> tasks
+) {
+    
+}
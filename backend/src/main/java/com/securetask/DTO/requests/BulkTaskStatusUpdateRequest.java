@@ -0,0 +1,17 @@
+package com.securetask.DTO.requests;
+
+import java.util.List;
+
+import com.securetask.Entitity.Task;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+public record BulkTaskStatusUpdateRequest(
+
+    @NotEmpty(message = "At least one task id is required")
+    List<@NotNull(message = "Task id must not be null") Long> taskIds,
+
+    @NotNull(message = "Status is required")
+    Task.StatusEnum newStatus
+) {}
@@ -0,0 +1,24 @@
+package com.securetask.DTO.requests;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.securetask.Entitity.Task;
+
+// Query parameters of GET /api/v1/tasks/filter, every criterion is optional and they are ANDed
+public record TaskFilterRequest(
+    Task.StatusEnum status,
+    Task.PriorityEnum priority,
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    LocalDateTime dueFrom,
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    LocalDateTime dueTo,
+
+    Long assigneeId,
+    Long createdById
+) {
+    
+}
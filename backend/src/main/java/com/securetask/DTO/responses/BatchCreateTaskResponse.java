@@ -0,0 +1,15 @@
+package com.securetask.DTO.responses;
+
+import java.util.List;
+
+// "created" keeps the request order, "errors" points back to the rejected request items by index
+public record BatchCreateTaskResponse(
+    List<TaskResponse> created,
+    List<BatchItemError> errors
+) {
+
+    public record BatchItemError(
+        int index,
+        String message
+    ) {}
+}
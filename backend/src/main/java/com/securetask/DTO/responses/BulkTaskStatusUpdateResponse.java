@@ -0,0 +1,20 @@
+package com.securetask.DTO.responses;
+
+import java.util.List;
+
+// One result per distinct requested id, in request order
+public record BulkTaskStatusUpdateResponse(
+    List<TaskStatusResult> results
+) {
+
+    public record TaskStatusResult(
+        Long taskId,
+        Outcome outcome
+    ) {}
+
+    // CONCURRENTLY_MODIFIED: another write changed the task while the batch ran, nothing was
+    // done to it; read it again and retry if still relevant
+    public enum Outcome {
+        UPDATED, INVALID_TRANSITION, FORBIDDEN, NOT_FOUND, CONCURRENTLY_MODIFIED
+    }
+}
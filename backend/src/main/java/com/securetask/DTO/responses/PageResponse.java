@@ -0,0 +1,11 @@
+package com.securetask.DTO.responses;
+
+import java.util.List;
+
+public record PageResponse<T>(
+    List<T> items,
+    String nextCursor,
+    boolean hasMore
+) {
+
+}
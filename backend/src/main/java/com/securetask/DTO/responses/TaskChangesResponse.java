@@ -0,0 +1,14 @@
+package com.securetask.DTO.responses;
+
+import java.util.List;
+
+// Tasks to upsert and task ids to drop since the cursor. nextCursor is always set: the client
+// stores it and sends it back on the next sync, immediately while hasMore is true
+public record TaskChangesResponse(
+    List<TaskResponse> changed,
+    List<Long> deletedIds,
+    String nextCursor,
+    boolean hasMore
+) {
+
+}
@@ -0,0 +1,10 @@
+package com.securetask.DTO.responses;
+
+// priority is null for the tasks without one
+public record TaskCountResponse(
+    String status,
+    String priority,
+    long count
+) {
+
+}
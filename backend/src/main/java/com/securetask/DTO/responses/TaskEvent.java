@@ -0,0 +1,21 @@
+package com.securetask.DTO.responses;
+
+// Pushed on GET /api/v1/tasks/events. task is the new state, null for deletions and for bulk
+// status changes (status only). version is the task version the event produced, and orders the
+// events of one task; null for every DELETED event, including the one sent to a user who lost access
+// to the task. A deletion ends the task for its recipient, whatever version comes next
+public record TaskEvent(
+    Type type,
+    Long taskId,
+    String status,
+    Long version,
+    TaskResponse task
+) {
+
+    public enum Type { CREATED, UPDATED, STATUS_CHANGED, DELETED }
+
+    public static TaskEvent of(Type type, TaskResponse task)
+    {
+        return new TaskEvent(type, task.id(), task.status(), task.version(), task);
+    }
+}
@@ -0,0 +1,10 @@
+package com.securetask.DTO.responses;
+
+// One field of a task changed by an audited write; values as text, null when unset
+public record TaskFieldChange(
+    String field,
+    String from,
+    String to
+) {
+
+}
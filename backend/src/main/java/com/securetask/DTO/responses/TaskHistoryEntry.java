@@ -0,0 +1,14 @@
+package com.securetask.DTO.responses;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record TaskHistoryEntry(
+    Long id,
+    String action,
+    Long changedByUserId,
+    LocalDateTime changedAt,
+    List<TaskFieldChange> changes
+) {
+
+}
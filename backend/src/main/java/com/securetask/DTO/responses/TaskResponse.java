@@ -2,6 +2,8 @@ package com.securetask.DTO.responses;
 
 import java.time.LocalDateTime;
 
+import com.securetask.Entitity.Task;
+
 public record TaskResponse(
     Long id,
     String title,
@@ -12,7 +14,26 @@ public record TaskResponse(
     Long assigneeId,
     Long createdByUserId,
     LocalDateTime createdAt,
-    LocalDateTime updatedAt
+    LocalDateTime updatedAt,
+    Long version
 ) {
-    
+
+    // Used by the JPQL constructor expressions of TaskRepository (enums are selected as-is)
+    public TaskResponse(
+        Long id,
+        String title,
+        String description,
+        Task.StatusEnum status,
+        Task.PriorityEnum priority,
+        LocalDateTime dueDate,
+        Long assigneeId,
+        Long createdByUserId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long version
+    ) {
+        this(id, title, description, status.toString(), priority != null ? priority.toString() : null,
+            dueDate, assigneeId, createdByUserId, createdAt, updatedAt, version);
+    }
+
 }
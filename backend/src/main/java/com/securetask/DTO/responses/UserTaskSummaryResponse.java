@@ -0,0 +1,14 @@
+package com.securetask.DTO.responses;
+
+import java.util.List;
+import java.util.Map;
+
+// Tasks assigned to one user: the total, per status (every status listed, 0 included) and per status and priority
+public record UserTaskSummaryResponse(
+    Long userId,
+    long total,
+    Map<String, Long> byStatus,
+    List<TaskCountResponse> counts
+) {
+
+}
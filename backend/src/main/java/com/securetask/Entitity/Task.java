@@ -2,6 +2,10 @@ package com.securetask.Entitity;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -14,6 +18,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
@@ -23,14 +28,18 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "tasks")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tasks") // Region limits in ehcache.xml
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Task {
     
+    // Pooled sequence (V5): ids are known before INSERT, which lets Hibernate batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_id_seq")
+    @SequenceGenerator(name = "tasks_id_seq", sequenceName = "tasks_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -64,19 +73,39 @@ public class Task {
     @Version // For optimistic locking, ensures data integrity during concurrent updates
     private Long version;
 
+    // Position in the change feed, NULL until TaskChangeSequencer numbers the row.
+    // Every write resets it, so the task is fed again with its new state
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        changeSeq = null;
     }
     
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        changeSeq = null;
     }
 
     public enum StatusEnum {
-        TODO, IN_PROGRESS, DONE
+        TODO, IN_PROGRESS, DONE;
+
+        // The only status a task can move to this one from, null when nothing can (TODO)
+        public StatusEnum allowedPrevious() {
+            return switch (this) {
+                case TODO -> null;
+                case IN_PROGRESS -> TODO;
+                case DONE -> IN_PROGRESS;
+            };
+        }
+
+        public boolean canTransitionTo(StatusEnum next) {
+            return next != null && next.allowedPrevious() == this;
+        }
     }
 
     public enum PriorityEnum {
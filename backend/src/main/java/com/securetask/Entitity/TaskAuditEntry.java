@@ -0,0 +1,42 @@
+package com.securetask.Entitity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One change of a task, read by GET /api/v1/tasks/{id}/history.
+// Rows are appended by TaskAuditWriter with plain JDBC batches, never through this entity
+@Entity
+@Table(name = "task_audit")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskAuditEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long taskId;
+
+    @Column(nullable = false, length = 32)
+    private String action;
+
+    private Long changedByUserId;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+
+    // List of TaskFieldChange as JSON
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String changes;
+}
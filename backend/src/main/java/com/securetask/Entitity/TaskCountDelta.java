@@ -0,0 +1,43 @@
+package com.securetask.Entitity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// A change to the number of tasks assigned to a user in one status and priority, inserted in the
+// transaction that changed the task. Insert-only: TaskCountMaintainer folds and corrects the rows
+@Entity
+@Table(name = "task_count_deltas")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskCountDelta {
+
+    // IDENTITY: TaskDAO writes these rows with plain JDBC batches or INSERT ... SELECT, never through persist()
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Task.StatusEnum status;
+
+    @Enumerated(EnumType.STRING)
+    private Task.PriorityEnum priority;
+
+    @Column(nullable = false)
+    private int delta;
+}
@@ -0,0 +1,28 @@
+package com.securetask.Entitity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Single row (id 1) owned by TaskChangeSequencer, locked while numbering or purging
+@Entity
+@Table(name = "task_sync_state")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSyncState {
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    // Last change number handed out
+    private long lastSeq;
+
+    // Tombstones up to this number are gone: a cursor below it can no longer be served
+    private long purgedThrough;
+}
@@ -0,0 +1,42 @@
+package com.securetask.Entitity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// A task the listed users can no longer see, reported as deleted by the change feed.
+// Written on delete (creator and assignee) and on reassignment (previous assignee only)
+@Entity
+@Table(name = "task_tombstones")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long taskId;
+
+    private Long createdByUserId;
+
+    private Long assigneeId;
+
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+
+    // Numbered by TaskChangeSequencer, like Task.changeSeq
+    private Long changeSeq;
+}
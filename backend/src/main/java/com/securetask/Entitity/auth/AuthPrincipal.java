@@ -0,0 +1,22 @@
+package com.securetask.Entitity.auth;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+import com.securetask.Entitity.User;
+
+/**
+ * Authenticated caller, built from the claims of a verified access token.
+ * Carries everything the ownership and role checks need, so they never touch the users table.
+ */
+public record AuthPrincipal(Long id, String email, User.Role role) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    // Admin and Manager bypass ownership checks
+    public boolean hasElevatedAccess() {
+        return role == User.Role.ADMIN || role == User.Role.MANAGER;
+    }
+}
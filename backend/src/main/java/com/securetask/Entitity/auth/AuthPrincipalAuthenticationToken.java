@@ -0,0 +1,30 @@
+package com.securetask.Entitity.auth;
+
+import java.util.Collection;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+public class AuthPrincipalAuthenticationToken extends AbstractAuthenticationToken {
+
+    private final AuthPrincipal principal;
+    private final Jwt jwt;
+
+    public AuthPrincipalAuthenticationToken(AuthPrincipal principal, Jwt jwt, Collection<? extends GrantedAuthority> authorities) {
+        super(authorities);
+        this.principal = principal;
+        this.jwt = jwt;
+        setAuthenticated(true);
+    }
+
+    @Override
+    public AuthPrincipal getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public Jwt getCredentials() {
+        return jwt;
+    }
+}
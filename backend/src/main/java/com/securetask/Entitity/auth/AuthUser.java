@@ -18,6 +18,14 @@ public class AuthUser implements UserDetails{
         private final User user;
     
     
+        public Long getId() {
+            return user.getId();
+        }
+
+        public User.Role getRole() {
+            return user.getRole();
+        }
+
         @Override
         public String getUsername() {
             return user.getEmail();
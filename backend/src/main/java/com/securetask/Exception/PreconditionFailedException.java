@@ -0,0 +1,10 @@
+package com.securetask.Exception;
+
+public class PreconditionFailedException extends RuntimeException {
+    
+    public PreconditionFailedException(String message) 
+    {
+        super(message);
+    }
+    
+}
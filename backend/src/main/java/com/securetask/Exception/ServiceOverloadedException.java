@@ -0,0 +1,20 @@
+package com.securetask.Exception;
+
+import java.time.Duration;
+
+public class ServiceOverloadedException extends RuntimeException {
+
+    // Sent back as the Retry-After header
+    private final Duration retryAfter;
+
+    public ServiceOverloadedException(String message, Duration retryAfter) 
+    {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() 
+    {
+        return retryAfter;
+    }
+}
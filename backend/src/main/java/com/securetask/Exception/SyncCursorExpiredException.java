@@ -0,0 +1,10 @@
+package com.securetask.Exception;
+
+public class SyncCursorExpiredException extends RuntimeException {
+    
+    public SyncCursorExpiredException(String message) 
+    {
+        super(message);
+    }
+    
+}
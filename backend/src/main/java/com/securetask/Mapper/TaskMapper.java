@@ -47,7 +47,8 @@ public class TaskMapper {
             task.getAssignee() != null ? task.getAssignee().getId() : null,
             task.getCreatedBy() != null ? task.getCreatedBy().getId() : null,
             task.getCreatedAt(),
-            task.getUpdatedAt()
+            task.getUpdatedAt(),
+            task.getVersion()
         );
     }
 
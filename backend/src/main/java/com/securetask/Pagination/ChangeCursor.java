@@ -0,0 +1,37 @@
+package com.securetask.Pagination;
+
+import com.securetask.Exception.BadRequestException;
+
+/**
+ * Position in the task change feed: the last change number a client has applied.
+ *
+ * A full sync spanning several pages hands out cursors with {@code fullSync} set: its pages are
+ * keyset positions over live tasks and may sit below the purge watermark, which only matters to a
+ * client that already held the deleted tasks.
+ */
+public record ChangeCursor(long changeSeq, boolean fullSync) {
+
+    public String encode()
+    {
+        return CursorCodec.encode(Long.toString(changeSeq), Boolean.toString(fullSync));
+    }
+
+    // Null or blank token means "from the start" (full sync)
+    public static ChangeCursor decode(String token)
+    {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        String[] parts = CursorCodec.decode(token, 2);
+        try {
+            long changeSeq = Long.parseLong(parts[0]);
+            if (changeSeq < 0 || !(parts[1].equals("true") || parts[1].equals("false"))) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new ChangeCursor(changeSeq, Boolean.parseBoolean(parts[1]));
+        } catch (NumberFormatException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
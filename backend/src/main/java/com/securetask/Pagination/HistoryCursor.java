@@ -0,0 +1,29 @@
+package com.securetask.Pagination;
+
+import com.securetask.Exception.BadRequestException;
+
+/**
+ * Keyset position in a task's history: the id of the last entry returned (newest first).
+ */
+public record HistoryCursor(Long id) {
+
+    public String encode()
+    {
+        return CursorCodec.encode(id.toString());
+    }
+
+    // Null or blank token means "first page"
+    public static HistoryCursor decode(String token)
+    {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        String[] parts = CursorCodec.decode(token, 1);
+        try {
+            return new HistoryCursor(Long.valueOf(parts[0]));
+        } catch (NumberFormatException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
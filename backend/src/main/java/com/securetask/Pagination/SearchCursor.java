@@ -0,0 +1,36 @@
+package com.securetask.Pagination;
+
+import com.securetask.Exception.BadRequestException;
+import com.securetask.Repository.TaskSearchHit;
+
+/**
+ * Keyset position on (rank DESC, id ASC), the sort order of the task search endpoint.
+ */
+public record SearchCursor(double rank, Long id) {
+
+    public static SearchCursor of(TaskSearchHit hit)
+    {
+        return new SearchCursor(hit.rank(), hit.task().id());
+    }
+
+    // Double.toString round-trips exactly, so the next page starts right after this hit
+    public String encode()
+    {
+        return CursorCodec.encode(Double.toString(rank), id.toString());
+    }
+
+    // Null or blank token means "first page"
+    public static SearchCursor decode(String token)
+    {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        String[] parts = CursorCodec.decode(token, 2);
+        try {
+            return new SearchCursor(Double.parseDouble(parts[0]), Long.valueOf(parts[1]));
+        } catch (NumberFormatException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.securetask.Pagination;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import com.securetask.DTO.responses.TaskResponse;
+import com.securetask.Exception.BadRequestException;
+
+/**
+ * Keyset position on (created_at, id), the sort order of the task list endpoints.
+ */
+public record TaskCursor(LocalDateTime createdAt, Long id) {
+
+    public static TaskCursor of(TaskResponse task)
+    {
+        return new TaskCursor(task.createdAt(), task.id());
+    }
+
+    public String encode()
+    {
+        return CursorCodec.encode(createdAt.toString(), id.toString());
+    }
+
+    // Null or blank token means "first page"
+    public static TaskCursor decode(String token)
+    {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        String[] parts = CursorCodec.decode(token, 2);
+        try {
+            return new TaskCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (DateTimeParseException | NumberFormatException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
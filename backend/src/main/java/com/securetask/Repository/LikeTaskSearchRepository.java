@@ -0,0 +1,67 @@
+package com.securetask.Repository;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import com.securetask.DTO.responses.TaskResponse;
+import com.securetask.Pagination.SearchCursor;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * Portable fallback for databases without full-text search (the H2 test profiles): case-insensitive
+ * substring match, a title match ranks above a description-only match. Scans the table, so it is slower.
+ */
+@Repository
+@ConditionalOnProperty(name = "tasks.search.engine", havingValue = "like")
+public class LikeTaskSearchRepository implements TaskSearchRepository {
+
+    private static final String RANK = "(CASE WHEN lower(t.title) LIKE :pattern ESCAPE '!' THEN 2.0 ELSE 1.0 END)";
+
+    private static final String HITS = """
+        SELECT new com.securetask.Repository.TaskSearchHit(
+            t.id, t.title, t.description, t.status, t.priority, t.dueDate,
+            t.assignee.id, t.createdBy.id, t.createdAt, t.updatedAt, t.version,
+            %1$s)
+        FROM Task t
+        WHERE (lower(t.title) LIKE :pattern ESCAPE '!' OR lower(t.description) LIKE :pattern ESCAPE '!')
+          AND %2$s
+          %3$s
+        ORDER BY %1$s DESC, t.id ASC
+        """;
+
+    private static final String FIRST_PAGE = HITS.formatted(RANK, TaskRepository.ACCESSIBLE_BY_USER, "");
+
+    private static final String NEXT_PAGE = HITS.formatted(RANK, TaskRepository.ACCESSIBLE_BY_USER,
+        "AND (" + RANK + " < :rank OR (" + RANK + " = :rank AND t.id > :id))");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskSearchHit> search(String query, Long userId, boolean elevated, SearchCursor after, int limit)
+    {
+        TypedQuery<TaskSearchHit> jpql = entityManager.createQuery(after == null ? FIRST_PAGE : NEXT_PAGE, TaskSearchHit.class)
+            .setParameter("pattern", "%" + escapeLike(query.toLowerCase()) + "%")
+            .setParameter("userId", userId)
+            .setParameter("elevated", elevated)
+            .setMaxResults(limit);
+
+        if (after != null) {
+            jpql.setParameter("rank", after.rank())
+                .setParameter("id", after.id());
+        }
+
+        return jpql.getResultList();
+    }
+
+    // '!' is the ESCAPE character of the LIKE patterns above
+    private static String escapeLike(String value)
+    {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
@@ -0,0 +1,84 @@
+package com.securetask.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.query.NativeQuery;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import com.securetask.DTO.responses.TaskResponse;
+import com.securetask.Pagination.SearchCursor;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+/**
+ * Full-text search on the generated {@code tasks.search_vector} column (GIN index, V7).
+ * Titles weigh more than descriptions; the query accepts web-search syntax ("quoted phrases", -excluded, or).
+ */
+@Repository
+@ConditionalOnProperty(name = "tasks.search.engine", havingValue = "postgres")
+public class PostgresTaskSearchRepository implements TaskSearchRepository {
+
+    // Ownership filter is the SQL twin of TaskRepository.ACCESSIBLE_BY_USER
+    private static final String HITS = """
+        SELECT t.id, t.title, t.description, t.status, t.priority, t.due_date,
+               t.assignee_id, t.created_by_user_id, t.created_at, t.updated_at, t.version,
+               CAST(ts_rank(t.search_vector, q.query) AS double precision) AS rank
+        FROM tasks t, websearch_to_tsquery('english', :query) AS q(query)
+        WHERE t.search_vector @@ q.query
+          AND (:elevated OR t.created_by_user_id = :userId OR t.assignee_id = :userId)
+        """;
+
+    private static final String FIRST_PAGE = "SELECT * FROM (" + HITS + ") hits "
+        + "ORDER BY hits.rank DESC, hits.id ASC LIMIT :limit";
+
+    private static final String NEXT_PAGE = "SELECT * FROM (" + HITS + ") hits "
+        + "WHERE hits.rank < :rank OR (hits.rank = :rank AND hits.id > :id) "
+        + "ORDER BY hits.rank DESC, hits.id ASC LIMIT :limit";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TaskSearchHit> search(String query, Long userId, boolean elevated, SearchCursor after, int limit)
+    {
+        Query sql = entityManager.createNativeQuery(after == null ? FIRST_PAGE : NEXT_PAGE)
+            .setParameter("query", query)
+            .setParameter("userId", userId)
+            .setParameter("elevated", elevated)
+            .setParameter("limit", limit);
+
+        if (after != null) {
+            sql.setParameter("rank", after.rank())
+                .setParameter("id", after.id());
+        }
+
+        // Explicit scalar types, so the row shape does not depend on the JDBC driver defaults
+        List<Object[]> rows = sql.unwrap(NativeQuery.class)
+            .addScalar("id", Long.class)
+            .addScalar("title", String.class)
+            .addScalar("description", String.class)
+            .addScalar("status", String.class)
+            .addScalar("priority", String.class)
+            .addScalar("due_date", LocalDateTime.class)
+            .addScalar("assignee_id", Long.class)
+            .addScalar("created_by_user_id", Long.class)
+            .addScalar("created_at", LocalDateTime.class)
+            .addScalar("updated_at", LocalDateTime.class)
+            .addScalar("version", Long.class)
+            .addScalar("rank", Double.class)
+            .getResultList();
+
+        return rows.stream()
+            .map(row -> new TaskSearchHit(
+                new TaskResponse(
+                    (Long) row[0], (String) row[1], (String) row[2], (String) row[3], (String) row[4],
+                    (LocalDateTime) row[5], (Long) row[6], (Long) row[7], (LocalDateTime) row[8], (LocalDateTime) row[9], (Long) row[10]),
+                (Double) row[11]))
+            .toList();
+    }
+}
@@ -1,17 +1,39 @@
 package com.securetask.Repository;
 
-import java.util.Optional;
+import java.time.Instant;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.securetask.Entitity.User;
 import com.securetask.Entitity.auth.RefreshToken;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
     
-    Optional<RefreshToken> findByToken(String token);
-    Optional<RefreshToken> findByUser(User user);
-    void deleteByUser(User user);
-    void deleteByToken(String token);
+    // Single statements, instead of the select-then-delete of derived delete methods
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM RefreshToken r WHERE r.user = :user")
+    int deleteByUser(@Param("user") User user);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM RefreshToken r WHERE r.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    // One bounded chunk of expired rows per call, each in its own short transaction
+    @Transactional
+    @Modifying
+    @Query(value = """
+        DELETE FROM refresh_tokens
+        WHERE id IN (
+            SELECT id FROM refresh_tokens
+            WHERE expiry_date < :now
+            ORDER BY id
+            LIMIT :batchSize
+        )
+        """, nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") Instant now, @Param("batchSize") int batchSize);
     
 }
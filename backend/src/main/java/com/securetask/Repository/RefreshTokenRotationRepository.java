@@ -0,0 +1,79 @@
+package com.securetask.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+
+import com.securetask.Entitity.User;
+import com.securetask.Entitity.auth.AuthPrincipal;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Refresh-token rotation in one statement: the token row is updated in place to the new digest and
+ * expiry, only if the old digest matches and is unexpired, and the owner comes back with it.
+ *
+ * The conditional update is the atomic step: of two concurrent refreshes with the same token, the
+ * second re-checks the row after the first commits, no longer matches, and gets nothing.
+ * PostgreSQL returns the owner with UPDATE ... RETURNING; H2 (tests) reads the updated row from a
+ * FINAL TABLE instead.
+ */
+@Repository
+public class RefreshTokenRotationRepository {
+
+    private static final String POSTGRES_ROTATE = """
+        UPDATE refresh_tokens r
+        SET token_hash = :newHash, expiry_date = :newExpiry
+        FROM users u
+        WHERE r.token_hash = :oldHash AND r.expiry_date > :now AND u.id = r.user_id
+        RETURNING u.id, u.email, u.role
+        """;
+
+    private static final String H2_ROTATE = """
+        SELECT u.id, u.email, u.role
+        FROM FINAL TABLE (
+            UPDATE refresh_tokens
+            SET token_hash = :newHash, expiry_date = :newExpiry
+            WHERE token_hash = :oldHash AND expiry_date > :now
+        ) r
+        JOIN users u ON u.id = r.user_id
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Empty when the old token is unknown, expired or already rotated
+    @SuppressWarnings("unchecked")
+    public Optional<AuthPrincipal> rotate(String oldHash, String newHash, Instant now, Instant newExpiry)
+    {
+        List<Object[]> rows = entityManager.createNativeQuery(rotateStatement())
+            .setParameter("oldHash", oldHash)
+            .setParameter("newHash", newHash)
+            .setParameter("now", now)
+            .setParameter("newExpiry", newExpiry)
+            .unwrap(NativeQuery.class)
+            .addScalar("id", Long.class)
+            .addScalar("email", String.class)
+            .addScalar("role", String.class)
+            .getResultList();
+
+        return rows.stream()
+            .findFirst()
+            .map(row -> new AuthPrincipal((Long) row[0], (String) row[1], User.Role.valueOf((String) row[2])));
+    }
+
+
+    private String rotateStatement() {
+        var dialect = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactoryImplementor.class)
+            .getJdbcServices()
+            .getDialect();
+        return dialect instanceof H2Dialect ? H2_ROTATE : POSTGRES_ROTATE;
+    }
+}
@@ -0,0 +1,16 @@
+package com.securetask.Repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.securetask.Entitity.TaskAuditEntry;
+
+public interface TaskAuditRepository extends JpaRepository<TaskAuditEntry, Long> {
+
+    // Keyset pages of one task's history, newest first (idx_task_audit_task_id)
+    List<TaskAuditEntry> findByTaskIdOrderByIdDesc(Long taskId, Limit limit);
+
+    List<TaskAuditEntry> findByTaskIdAndIdLessThanOrderByIdDesc(Long taskId, Long id, Limit limit);
+}
@@ -0,0 +1,14 @@
+package com.securetask.Repository;
+
+import com.securetask.DTO.responses.TaskResponse;
+
+// One entry of a user's change feed, in change_seq order
+public record TaskChange(
+    Type type,
+    long changeSeq,
+    Long taskId,
+    TaskResponse task
+) {
+
+    public enum Type { DELETED, CHANGED }
+}
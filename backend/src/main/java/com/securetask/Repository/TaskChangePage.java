@@ -0,0 +1,10 @@
+package com.securetask.Repository;
+
+import java.util.List;
+
+// A slice of a user's change feed with the sync state it was read against, both from one statement
+public record TaskChangePage(
+    long lastSeq,
+    long purgedThrough,
+    List<TaskChange> changes
+) {}
@@ -0,0 +1,100 @@
+package com.securetask.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+
+import com.securetask.DTO.responses.TaskResponse;
+import com.securetask.Entitity.Task;
+import com.securetask.Entitity.TaskSyncState;
+import com.securetask.Entitity.TaskTombstone;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Reads a user's change feed: tasks they created or are assigned to, and their tombstones, numbered
+ * after a cursor. One statement serves a sync, with each branch a range scan on a
+ * (user column, change_seq) index (V10); when nothing changed every scan comes back empty.
+ *
+ * The sync state (last number handed out, purge watermark) comes back as the first row of the same
+ * statement, so the caller judges the cursor and sizes the next one against the snapshot the
+ * entries were read from.
+ */
+@Repository
+public class TaskChangeRepository {
+
+    private static final String CHANGES = """
+        SELECT * FROM (
+            SELECT 0 AS kind, -1 AS change_seq, NULL AS id, NULL AS title, NULL AS description,
+                   NULL AS status, NULL AS priority, NULL AS due_date, NULL AS assignee_id,
+                   NULL AS created_by_user_id, NULL AS created_at, NULL AS updated_at, NULL AS version,
+                   COALESCE((SELECT s.last_seq FROM task_sync_state s WHERE s.id = :stateId), 0) AS last_seq,
+                   COALESCE((SELECT s.purged_through FROM task_sync_state s WHERE s.id = :stateId), 0) AS purged_through
+            UNION ALL
+            SELECT 1, d.change_seq, d.task_id, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL
+            FROM task_tombstones d
+            WHERE (d.created_by_user_id = :userId OR d.assignee_id = :userId) AND d.change_seq > :after AND :withTombstones = TRUE
+            UNION ALL
+            SELECT 2, t.change_seq, t.id, t.title, t.description, t.status, t.priority, t.due_date,
+                   t.assignee_id, t.created_by_user_id, t.created_at, t.updated_at, t.version, NULL, NULL
+            FROM tasks t
+            WHERE (t.created_by_user_id = :userId OR t.assignee_id = :userId) AND t.change_seq > :after
+        ) c
+        ORDER BY c.change_seq, c.kind
+        LIMIT :limit
+        """;
+
+    // Row kinds after the leading sync state row (kind 0)
+    private static final TaskChange.Type[] KINDS = { TaskChange.Type.DELETED, TaskChange.Type.CHANGED };
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Up to limit entries numbered after the given change, oldest first
+    @SuppressWarnings("unchecked")
+    public TaskChangePage findChanges(Long userId, long after, boolean withTombstones, int limit)
+    {
+        List<Object[]> rows = entityManager.createNativeQuery(CHANGES)
+            .setParameter("stateId", TaskSyncState.ID)
+            .setParameter("userId", userId)
+            .setParameter("after", after)
+            .setParameter("withTombstones", withTombstones)
+            // The state row always comes first and takes one slot
+            .setParameter("limit", limit + 1)
+            .unwrap(NativeQuery.class)
+            // Query spaces: only pending writes to these tables are flushed before the read
+            .addSynchronizedEntityClass(Task.class)
+            .addSynchronizedEntityClass(TaskTombstone.class)
+            .addScalar("kind", Integer.class)
+            .addScalar("change_seq", Long.class)
+            .addScalar("id", Long.class)
+            .addScalar("title", String.class)
+            .addScalar("description", String.class)
+            .addScalar("status", String.class)
+            .addScalar("priority", String.class)
+            .addScalar("due_date", LocalDateTime.class)
+            .addScalar("assignee_id", Long.class)
+            .addScalar("created_by_user_id", Long.class)
+            .addScalar("created_at", LocalDateTime.class)
+            .addScalar("updated_at", LocalDateTime.class)
+            .addScalar("version", Long.class)
+            .addScalar("last_seq", Long.class)
+            .addScalar("purged_through", Long.class)
+            .getResultList();
+
+        Object[] state = rows.get(0);
+        List<TaskChange> changes = rows.subList(1, rows.size()).stream()
+            .map(row -> {
+                TaskChange.Type type = KINDS[(Integer) row[0] - 1];
+                TaskResponse task = type != TaskChange.Type.CHANGED ? null : new TaskResponse(
+                    (Long) row[2], (String) row[3], (String) row[4], (String) row[5], (String) row[6],
+                    (LocalDateTime) row[7], (Long) row[8], (Long) row[9], (LocalDateTime) row[10], (LocalDateTime) row[11], (Long) row[12]);
+                return new TaskChange(type, (Long) row[1], (Long) row[2], task);
+            })
+            .toList();
+        return new TaskChangePage((Long) state[13], (Long) state[14], changes);
+    }
+}
@@ -0,0 +1,13 @@
+package com.securetask.Repository;
+
+import com.securetask.Entitity.Task;
+
+// Number of tasks assigned to a user in one status and priority (null priority included)
+public record TaskCount(
+    Long userId,
+    Task.StatusEnum status,
+    Task.PriorityEnum priority,
+    Long count
+) {
+
+}
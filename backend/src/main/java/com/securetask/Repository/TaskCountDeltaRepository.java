@@ -0,0 +1,30 @@
+package com.securetask.Repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.securetask.Entitity.TaskCountDelta;
+
+public interface TaskCountDeltaRepository extends JpaRepository<TaskCountDelta, Long> {
+
+    @Query("""
+        SELECT new com.securetask.Repository.TaskCount(d.userId, d.status, d.priority, SUM(d.delta))
+        FROM TaskCountDelta d
+        WHERE d.userId = :userId
+        GROUP BY d.userId, d.status, d.priority
+        HAVING SUM(d.delta) <> 0
+        """)
+    List<TaskCount> findCountsByUserId(@Param("userId") Long userId);
+
+    @Query("""
+        SELECT new com.securetask.Repository.TaskCount(d.userId, d.status, d.priority, SUM(d.delta))
+        FROM TaskCountDelta d
+        GROUP BY d.userId, d.status, d.priority
+        HAVING SUM(d.delta) <> 0
+        ORDER BY d.userId
+        """)
+    List<TaskCount> findAllCounts();
+}
@@ -0,0 +1,49 @@
+package com.securetask.Repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import com.securetask.DTO.responses.TaskResponse;
+import com.securetask.Entitity.Task;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Runs a {@link TaskSpecifications} filter as a {@link TaskResponse} projection: the same columns
+ * as TaskRepository.SELECT_TASK_RESPONSE, so no Task entity or User proxy is built.
+ */
+@Repository
+public class TaskFilterRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Keyset order (created_at, id); the cursor is part of the specification
+    public List<TaskResponse> findPage(Specification<Task> spec, int limit)
+    {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskResponse> query = cb.createQuery(TaskResponse.class);
+        Root<Task> t = query.from(Task.class);
+
+        query.select(cb.construct(TaskResponse.class,
+            t.get("id"), t.get("title"), t.get("description"), t.get("status"), t.get("priority"), t.get("dueDate"),
+            t.get("assignee").get("id"), t.get("createdBy").get("id"), t.get("createdAt"), t.get("updatedAt"), t.get("version")));
+
+        Predicate where = spec.toPredicate(t, query, cb);
+        if (where != null) {
+            query.where(where);
+        }
+        query.orderBy(cb.asc(t.get("createdAt")), cb.asc(t.get("id")));
+
+        return entityManager.createQuery(query)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+}
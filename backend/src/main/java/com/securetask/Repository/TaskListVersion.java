@@ -0,0 +1,12 @@
+package com.securetask.Repository;
+
+import java.time.LocalDateTime;
+
+// Cheap fingerprint of the tasks of one list: any create, update or delete among them
+// changes the count or the latest update time. Backs the ETag of the task lists
+public record TaskListVersion(
+    long count,
+    LocalDateTime lastUpdatedAt
+) {
+
+}
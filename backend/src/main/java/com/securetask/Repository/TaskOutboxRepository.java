@@ -0,0 +1,9 @@
+package com.securetask.Repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.securetask.Entitity.TaskOutboxEvent;
+
+public interface TaskOutboxRepository extends JpaRepository<TaskOutboxEvent, Long> {
+
+}
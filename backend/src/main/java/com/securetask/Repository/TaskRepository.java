@@ -1,18 +1,90 @@
 package com.securetask.Repository;
 
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.securetask.DTO.responses.TaskResponse;
 import com.securetask.Entitity.Task;
-import com.securetask.Entitity.User;
 
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+
+// Dynamic filters go through JpaSpecificationExecutor, see TaskSpecifications
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+
+    // Selects exactly the TaskResponse columns: no managed entity, no User proxy,
+    // assignee/creator ids are read from the FK columns without joining users
+    String SELECT_TASK_RESPONSE = """
+        SELECT new com.securetask.DTO.responses.TaskResponse(
+            t.id, t.title, t.description, t.status, t.priority, t.dueDate,
+            t.assignee.id, t.createdBy.id, t.createdAt, t.updatedAt, t.version)
+        FROM Task t
+        """;
+
+    // Ownership/role predicate evaluated by the database: admins and managers see every task,
+    // other users only the tasks they created or are assigned to
+    String ACCESSIBLE_BY_USER = "(:elevated = true OR t.createdBy.id = :userId OR t.assignee.id = :userId)";
 
     List<Task> findAllByAssigneeId(Long assigneeId);
     List<Task> findAllByCreatedById(Long createdById);
-    List<Task> findByAssigneeAndStatus(User assignee, Task.StatusEnum status);
-    
+
+    @Query(SELECT_TASK_RESPONSE + "WHERE t.id = :id AND " + ACCESSIBLE_BY_USER)
+    Optional<TaskResponse> findResponseByIdAccessibleBy(@Param("id") Long id, @Param("userId") Long userId, @Param("elevated") boolean elevated);
+
+    // Same fingerprint for the created and assigned lists, on the indexes of V4
+    @Query("SELECT new com.securetask.Repository.TaskListVersion(count(t), max(t.updatedAt)) FROM Task t WHERE t.createdBy.id = :userId")
+    TaskListVersion findListVersionByCreatedById(@Param("userId") Long userId);
+
+    @Query("SELECT new com.securetask.Repository.TaskListVersion(count(t), max(t.updatedAt)) FROM Task t WHERE t.assignee.id = :userId")
+    TaskListVersion findListVersionByAssigneeId(@Param("userId") Long userId);
+
+    // Only the id: the entity itself can then come from the second-level cache
+    @Query("SELECT t.id FROM Task t WHERE t.id = :id AND " + ACCESSIBLE_BY_USER)
+    Optional<Long> findIdAccessibleBy(@Param("id") Long id, @Param("userId") Long userId, @Param("elevated") boolean elevated);
+
+    @Query("""
+        SELECT new com.securetask.Repository.TaskStatusSnapshot(
+            t.id, t.status, t.priority, CASE WHEN """ + ACCESSIBLE_BY_USER + """
+             THEN true ELSE false END, t.createdBy.id, t.assignee.id, t.version)
+        FROM Task t
+        WHERE t.id IN :ids
+        """)
+    List<TaskStatusSnapshot> findStatusSnapshots(@Param("ids") Collection<Long> ids, @Param("userId") Long userId, @Param("elevated") boolean elevated);
+
+    // Keyset pagination on (created_at, id), backed by the composite indexes of V4
+    @Query(SELECT_TASK_RESPONSE + """
+        WHERE t.createdBy.id = :userId
+        ORDER BY t.createdAt ASC, t.id ASC
+        """)
+    List<TaskResponse> findResponsePageByCreatedById(@Param("userId") Long userId, Limit limit);
+
+    @Query(SELECT_TASK_RESPONSE + """
+        WHERE t.createdBy.id = :userId
+          AND (t.createdAt, t.id) > (:createdAt, :id)
+        ORDER BY t.createdAt ASC, t.id ASC
+        """)
+    List<TaskResponse> findResponsePageByCreatedByIdAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query(SELECT_TASK_RESPONSE + """
+        WHERE t.assignee.id = :userId
+        ORDER BY t.createdAt ASC, t.id ASC
+        """)
+    List<TaskResponse> findResponsePageByAssigneeId(@Param("userId") Long userId, Limit limit);
+
+    @Query(SELECT_TASK_RESPONSE + """
+        WHERE t.assignee.id = :userId
+          AND (t.createdAt, t.id) > (:createdAt, :id)
+        ORDER BY t.createdAt ASC, t.id ASC
+        """)
+    List<TaskResponse> findResponsePageByAssigneeIdAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
 }
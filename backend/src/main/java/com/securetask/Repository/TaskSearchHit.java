@@ -0,0 +1,32 @@
+package com.securetask.Repository;
+
+import java.time.LocalDateTime;
+
+import com.securetask.DTO.responses.TaskResponse;
+import com.securetask.Entitity.Task;
+
+// A search result and its relevance, higher ranks first
+public record TaskSearchHit(
+    TaskResponse task,
+    double rank
+) {
+
+    // Used by the JPQL constructor expression of LikeTaskSearchRepository (rank is a computed number)
+    public TaskSearchHit(
+        Long id,
+        String title,
+        String description,
+        Task.StatusEnum status,
+        Task.PriorityEnum priority,
+        LocalDateTime dueDate,
+        Long assigneeId,
+        Long createdByUserId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long version,
+        Number rank
+    ) {
+        this(new TaskResponse(id, title, description, status, priority, dueDate, assigneeId, createdByUserId, createdAt, updatedAt, version),
+            rank.doubleValue());
+    }
+}
@@ -0,0 +1,15 @@
+package com.securetask.Repository;
+
+import java.util.List;
+
+import com.securetask.Pagination.SearchCursor;
+
+/**
+ * Ranked search over task titles and descriptions, restricted to the tasks a user can access.
+ * The implementation is picked by {@code tasks.search.engine}.
+ */
+public interface TaskSearchRepository {
+
+    // Hits ordered by rank DESC, id ASC; a null cursor returns the first page
+    List<TaskSearchHit> search(String query, Long userId, boolean elevated, SearchCursor after, int limit);
+}
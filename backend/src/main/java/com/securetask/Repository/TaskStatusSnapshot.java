@@ -0,0 +1,20 @@
+package com.securetask.Repository;
+
+import com.securetask.Entitity.Task;
+
+// Status of a task as seen by one user, read before a bulk status transition
+// to tell "not found", "forbidden" and "invalid transition" apart, or locked by a delete. The creator and
+// assignee are who the change is pushed to (TaskEventBroadcaster); the assignee and
+// priority also say which counters the change moves (TaskCountDelta). The version is the
+// compare-and-set condition of the transition (TaskDAO.transitionStatus)
+public record TaskStatusSnapshot(
+    Long id,
+    Task.StatusEnum status,
+    Task.PriorityEnum priority,
+    boolean accessible,
+    Long createdByUserId,
+    Long assigneeId,
+    Long version
+) {
+
+}
@@ -0,0 +1,20 @@
+package com.securetask.Repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.securetask.Entitity.TaskSyncState;
+
+import jakarta.persistence.LockModeType;
+
+public interface TaskSyncStateRepository extends JpaRepository<TaskSyncState, Integer> {
+
+    // SELECT ... FOR UPDATE: one sequencer run at a time, across instances
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM TaskSyncState s WHERE s.id = :id")
+    Optional<TaskSyncState> findByIdForUpdate(@Param("id") Integer id);
+}
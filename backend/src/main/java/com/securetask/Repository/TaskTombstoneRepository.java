@@ -0,0 +1,29 @@
+package com.securetask.Repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.securetask.Entitity.TaskTombstone;
+
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    // Deletion tombstones carry the creator, those of a lost assignment only the previous assignee
+    @Query("""
+        SELECT CASE WHEN count(t) > 0 THEN true ELSE false END
+        FROM TaskTombstone t
+        WHERE t.taskId = :taskId AND t.createdByUserId IS NOT NULL
+          AND (:elevated = true OR t.createdByUserId = :userId OR t.assigneeId = :userId)
+        """)
+    boolean existsDeletionAccessibleBy(@Param("taskId") Long taskId, @Param("userId") Long userId, @Param("elevated") boolean elevated);
+
+    @Query("SELECT max(t.changeSeq) FROM TaskTombstone t WHERE t.deletedAt < :cutoff")
+    Long findMaxChangeSeqDeletedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query("DELETE FROM TaskTombstone t WHERE t.changeSeq <= :throughSeq")
+    int deleteThrough(@Param("throughSeq") long throughSeq);
+}
@@ -1,8 +1,12 @@
 package com.securetask.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 
 import com.securetask.Entitity.User;
@@ -15,4 +19,7 @@ public interface UserRepository extends JpaRepository<User, Long>
     boolean existsByEmail(String email);
     boolean existsById(@NonNull Long id);
     boolean existsByUsername(String username);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,209 @@
+package com.securetask.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Keeps the per-user task counters (V13, read by GET /api/v1/manager/...) small and right.
+ *
+ * Task writes never update a counter row: they insert +1/-1 delta rows, so two writes on the same
+ * user's counters never wait on each other, and a count is the sum of the rows of its key. This
+ * job folds those rows: each batch locks the oldest rows with FOR UPDATE SKIP LOCKED (as
+ * TaskOutboxRelay), deletes them and inserts one row per key with their sum. Sums are additive, so
+ * several instances can compact at once, and readers see the same totals before and after.
+ *
+ * Reconciliation compares the counters with a GROUP BY over tasks, in a single statement so both
+ * sides come from one snapshot, and inserts the difference as correction rows (counted in
+ * {@code tasks.counts.drift}). Drift comes from writes that bypass TaskServiceImpl: every write
+ * through it takes its deltas from the row state it changed, under the row lock. Corrections are
+ * not additive like compaction: two instances reconciling the same drift would both correct it, so
+ * runs are serialized on a job_locks row (V14). Lock, comparison and corrections share one
+ * transaction, hence one connection; the comparison starts once the lock is held, so under READ
+ * COMMITTED it sees the corrections of the previous holder.
+ */
+@Service
+public class TaskCountMaintainer {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskCountMaintainer.class);
+
+    private static final String NEXT_BATCH = """
+        SELECT id, user_id, status, priority, delta
+        FROM task_count_deltas
+        WHERE id <= ?
+        ORDER BY id
+        LIMIT ?
+        FOR UPDATE SKIP LOCKED
+        """;
+
+    private static final String DELETE = "DELETE FROM task_count_deltas WHERE id = ?";
+
+    private static final String INSERT = "INSERT INTO task_count_deltas (user_id, status, priority, delta) VALUES (?, ?, ?, ?)";
+
+    // Tasks minus counters, per key: the corrections to insert
+    private static final String DIFFERENCE = """
+        SELECT user_id, status, priority, SUM(amount) AS amount
+        FROM (
+            SELECT assignee_id AS user_id, status, priority, COUNT(*) AS amount
+            FROM tasks
+            WHERE assignee_id IS NOT NULL
+            GROUP BY assignee_id, status, priority
+            UNION ALL
+            SELECT user_id, status, priority, -SUM(delta) AS amount
+            FROM task_count_deltas
+            GROUP BY user_id, status, priority
+        ) counts
+        GROUP BY user_id, status, priority
+        HAVING SUM(amount) <> 0
+        """;
+
+    private static final String RECONCILIATION_LOCK = "task-count-reconciliation";
+
+    private static final String LOCK = "SELECT name FROM job_locks WHERE name = ? FOR UPDATE";
+
+    private record Key(long userId, String status, String priority) {}
+
+    private record Row(long id, Key key, long delta) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter compactedCounter;
+    private final Counter driftCounter;
+
+    @Value("${tasks.counts.compaction-batch-size}")
+    private int batchSize;
+
+    public TaskCountMaintainer(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry)
+    {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.compactedCounter = Counter.builder("tasks.counts.compacted")
+            .description("Task counter delta rows folded into per-key totals")
+            .register(meterRegistry);
+        this.driftCounter = Counter.builder("tasks.counts.drift")
+            .description("Absolute difference between the task counters and the tasks, corrected by the reconciliation")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.counts.compaction-interval}", initialDelayString = "${tasks.counts.compaction-interval}")
+    public void compact()
+    {
+        try {
+            compactDeltas();
+        } catch (RuntimeException ex) {
+            logger.warn("Task counter compaction failed, retrying on the next run", ex);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.counts.reconciliation-interval}", initialDelayString = "${tasks.counts.reconciliation-interval}")
+    public void reconcile()
+    {
+        try {
+            long drift = reconcileWithTasks();
+            if (drift > 0) {
+                logger.warn("Corrected a drift of {} in the task counters", drift);
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("Task counter reconciliation failed, retrying on the next run", ex);
+        }
+    }
+
+    // Returns the number of delta rows folded. Rows inserted meanwhile (the totals included) wait for the next run
+    public int compactDeltas()
+    {
+        Long through = jdbcTemplate.queryForObject("SELECT MAX(id) FROM task_count_deltas", Long.class);
+        if (through == null) {
+            return 0;
+        }
+
+        int total = 0;
+        int read;
+        do {
+            read = transactionTemplate.execute(status -> compactBatch(through));
+            total += read;
+        } while (read == batchSize);
+
+        return total;
+    }
+
+    // Returns the total absolute correction applied, 0 when the counters were right
+    public long reconcileWithTasks()
+    {
+        // The lock is held until the corrections are committed
+        return transactionTemplate.execute(status -> {
+            lockJob(RECONCILIATION_LOCK);
+
+            List<Map.Entry<Key, Long>> corrections = jdbcTemplate.query(DIFFERENCE, (rs, i) -> Map.entry(
+                new Key(rs.getLong("user_id"), rs.getString("status"), rs.getString("priority")),
+                rs.getLong("amount")));
+            insertTotals(corrections);
+
+            long drift = corrections.stream().mapToLong(entry -> Math.abs(entry.getValue())).sum();
+            driftCounter.increment(drift);
+            return drift;
+        });
+    }
+
+
+    // Blocks while another instance holds the row. The row is created on first use where the
+    // migration has not run (tests); a concurrent first use fails on the key and retries next run
+    private void lockJob(String name)
+    {
+        if (jdbcTemplate.queryForList(LOCK, String.class, name).isEmpty()) {
+            jdbcTemplate.update("INSERT INTO job_locks (name) VALUES (?)", name);
+        }
+    }
+
+    private int compactBatch(long through)
+    {
+        List<Row> batch = jdbcTemplate.query(NEXT_BATCH,
+            (rs, i) -> new Row(
+                rs.getLong("id"),
+                new Key(rs.getLong("user_id"), rs.getString("status"), rs.getString("priority")),
+                rs.getLong("delta")),
+            through, batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<Key, Long> totals = new HashMap<>();
+        for (Row row : batch) {
+            totals.merge(row.key(), row.delta(), Long::sum);
+        }
+
+        // Only rows this transaction locked; keys that sum to 0 disappear
+        jdbcTemplate.batchUpdate(DELETE, batch, batch.size(), (ps, row) -> ps.setLong(1, row.id()));
+        insertTotals(totals.entrySet().stream().filter(entry -> entry.getValue() != 0).toList());
+        compactedCounter.increment(batch.size());
+        return batch.size();
+    }
+
+    private void insertTotals(List<Map.Entry<Key, Long>> totals)
+    {
+        if (totals.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT, new ArrayList<>(totals), totals.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getKey().userId());
+            ps.setString(2, entry.getKey().status());
+            ps.setString(3, entry.getKey().priority());
+            ps.setLong(4, entry.getValue());
+        });
+    }
+}
@@ -0,0 +1,278 @@
+package com.securetask.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.securetask.DTO.responses.TaskEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pushes task events over Server-Sent Events (GET /api/v1/tasks/events) to the creator and the
+ * assignee of the task, once the writing transaction has committed.
+ *
+ * An idle subscriber costs an {@link SseEmitter} in async mode and its buffer: no thread is held,
+ * the connection waits in Tomcat's NIO poller. Events go to a bounded per-subscriber buffer,
+ * coalesced per task (the latest wins), and are written by at most one delivery task per subscriber,
+ * on a virtual thread that only lives while there is something to write. Publishing never waits
+ * for a subscriber: one that falls more than {@code tasks.events.buffer-size} tasks behind loses
+ * its buffer and gets a single "resync" event, after which it catches up with
+ * GET /api/v1/tasks/changes.
+ *
+ * Metrics: {@code tasks.events.subscribers}, {@code tasks.events.delivered},
+ * {@code tasks.events.coalesced} and {@code tasks.events.dropped}.
+ */
+@Service
+public class TaskEventBroadcaster {
+
+    public static final String TASK_EVENT = "task";
+    public static final String RESYNC_EVENT = "resync";
+
+    // An event and the users it goes to
+    public record Delivery(TaskEvent event, Collection<Long> audience) {}
+
+    private final Map<Long, Set<Subscriber>> subscribersByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Counter deliveredCounter;
+    private final Counter coalescedCounter;
+    private final Counter droppedCounter;
+
+    @Value("${tasks.events.buffer-size}")
+    private int bufferSize;
+
+    @Value("${tasks.events.timeout}")
+    private Duration timeout;
+
+    public TaskEventBroadcaster(MeterRegistry meterRegistry)
+    {
+        Gauge.builder("tasks.events.subscribers", subscriberCount, AtomicInteger::get)
+            .description("Open task event streams")
+            .register(meterRegistry);
+        this.deliveredCounter = Counter.builder("tasks.events.delivered")
+            .description("Task events written to a subscriber")
+            .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("tasks.events.coalesced")
+            .description("Buffered task events replaced by a later event for the same task")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("tasks.events.dropped")
+            .description("Task events dropped from the buffer of a slow subscriber")
+            .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Long userId)
+    {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(userId, emitter);
+
+        // Timeouts end the stream normally: EventSource clients reconnect on their own
+        emitter.onTimeout(emitter::complete);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onError(ex -> remove(subscriber));
+
+        subscribersByUser.compute(userId, (id, subscribers) -> {
+            Set<Subscriber> set = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        subscriberCount.incrementAndGet();
+
+        // First frame: commits the response headers, so clients and proxies see the stream open
+        subscriber.heartbeat();
+        return emitter;
+    }
+
+    // Lets publishers skip reads that only serve the fan-out
+    public boolean hasSubscribers()
+    {
+        return subscriberCount.get() > 0;
+    }
+
+    public void publishAfterCommit(TaskEvent event, Collection<Long> audience)
+    {
+        publishAfterCommit(List.of(new Delivery(event, audience)));
+    }
+
+    // Sent only if the current transaction commits; immediately outside a transaction
+    public void publishAfterCommit(List<Delivery> deliveries)
+    {
+        if (deliveries.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(deliveries);
+                }
+            });
+        } else {
+            publish(deliveries);
+        }
+    }
+
+    // Keeps idle connections alive through proxies and finds the ones whose client is gone
+    @Scheduled(fixedDelayString = "${tasks.events.heartbeat-interval}", initialDelayString = "${tasks.events.heartbeat-interval}")
+    public void heartbeat()
+    {
+        subscribersByUser.values().forEach(subscribers -> subscribers.forEach(Subscriber::heartbeat));
+    }
+
+    @PreDestroy
+    public void close()
+    {
+        subscribersByUser.values().forEach(subscribers -> subscribers.forEach(s -> s.emitter.complete()));
+        deliveryExecutor.shutdownNow();
+    }
+
+
+    private void publish(List<Delivery> deliveries)
+    {
+        if (!hasSubscribers()) {
+            return;
+        }
+
+        for (Delivery delivery : deliveries) {
+            for (Long userId : delivery.audience()) {
+                Set<Subscriber> subscribers = userId != null ? subscribersByUser.get(userId) : null;
+                if (subscribers != null) {
+                    subscribers.forEach(s -> s.offer(delivery.event()));
+                }
+            }
+        }
+    }
+
+    private void remove(Subscriber subscriber)
+    {
+        subscribersByUser.computeIfPresent(subscriber.userId, (id, subscribers) -> {
+            if (subscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+
+    private final class Subscriber {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+
+        // True while a delivery task is queued or running for this subscriber
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        // Guarded by this
+        private final LinkedHashMap<Long, TaskEvent> pending = new LinkedHashMap<>();
+        private boolean overflowed;
+        private boolean heartbeatDue;
+
+        private Subscriber(Long userId, SseEmitter emitter)
+        {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private void offer(TaskEvent event)
+        {
+            synchronized (this) {
+                if (pending.remove(event.taskId()) != null) {
+                    coalescedCounter.increment();
+                    pending.put(event.taskId(), event);
+                } else if (pending.size() < bufferSize) {
+                    pending.put(event.taskId(), event);
+                } else {
+                    // The "resync" event replaces everything the client was going to miss
+                    droppedCounter.increment(pending.size() + 1);
+                    pending.clear();
+                    overflowed = true;
+                }
+            }
+            schedule();
+        }
+
+        private void heartbeat()
+        {
+            synchronized (this) {
+                heartbeatDue = true;
+            }
+            schedule();
+        }
+
+        private void schedule()
+        {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    deliveryExecutor.execute(this::deliver);
+                } catch (RejectedExecutionException ex) {
+                    // Shutting down
+                }
+            }
+        }
+
+        // Drains the buffer until it stays empty. Offers made while a write blocks on a slow
+        // client pile up (and coalesce) in the buffer instead of waiting on it
+        private void deliver()
+        {
+            try {
+                while (true) {
+                    Set<DataWithMediaType> frames = new LinkedHashSet<>();
+                    int events;
+                    synchronized (this) {
+                        if (pending.isEmpty() && !overflowed && !heartbeatDue) {
+                            scheduled.set(false);
+                            return;
+                        }
+
+                        if (overflowed) {
+                            frames.addAll(SseEmitter.event().name(RESYNC_EVENT).data("").build());
+                        }
+                        for (TaskEvent event : pending.values()) {
+                            frames.addAll(SseEmitter.event().name(TASK_EVENT).data(event, MediaType.APPLICATION_JSON).build());
+                        }
+                        if (frames.isEmpty()) {
+                            frames.addAll(SseEmitter.event().comment("heartbeat").build());
+                        }
+
+                        events = pending.size();
+                        pending.clear();
+                        overflowed = false;
+                        heartbeatDue = false;
+                    }
+
+                    // One write and one flush for the whole batch
+                    emitter.send(frames);
+                    deliveredCounter.increment(events);
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // Client gone or stream completed: scheduled stays set, nothing more is delivered
+                remove(this);
+            }
+        }
+    }
+}
@@ -1,13 +1,22 @@
 package com.securetask.Service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.lang.NonNull;
 
 import com.securetask.DTO.requests.CreateTaskRequest;
+import com.securetask.DTO.requests.TaskFilterRequest;
 import com.securetask.DTO.requests.UpdateTaskRequest;
+import com.securetask.DTO.responses.BatchCreateTaskResponse;
+import com.securetask.DTO.responses.BulkTaskStatusUpdateResponse;
+import com.securetask.DTO.responses.PageResponse;
+import com.securetask.DTO.responses.TaskChangesResponse;
+import com.securetask.DTO.responses.TaskHistoryEntry;
 import com.securetask.DTO.responses.TaskResponse;
+import com.securetask.DTO.responses.UserTaskSummaryResponse;
 import com.securetask.Entitity.Task;
+import com.securetask.Repository.TaskListVersion;
 
 
 public interface TaskService {
@@ -17,20 +26,48 @@ public interface TaskService {
 
     List<TaskResponse> getAllTasksCreatedByUser(@NonNull Long userId);
 
-    // Auth user methods
-    List<TaskResponse> getAllTasksAssignedToAuthUser();
+    // Dashboard counts of the tasks assigned to a user, maintained incrementally (TaskCountMaintainer)
+    UserTaskSummaryResponse getTaskSummaryForUser(@NonNull Long userId);
 
-    List<TaskResponse> getAllTasksCreatedByAuthUser();
+    List<UserTaskSummaryResponse> getTaskSummaries();
+
+    // Auth user methods (keyset paginated, a null cursor returns the first page)
+    PageResponse<TaskResponse> getAllTasksAssignedToAuthUser(String cursor, Integer size);
+
+    PageResponse<TaskResponse> getAllTasksCreatedByAuthUser(String cursor, Integer size);
+
+    // Any combination of criteria, restricted to the accessible tasks
+    PageResponse<TaskResponse> filterTasks(TaskFilterRequest filter, String cursor, Integer size);
+
+    // Ranked by relevance, keyset paginated like the lists
+    PageResponse<TaskResponse> searchTasks(String query, String cursor, Integer size);
+
+    // List ETags: each changes whenever a task of that list changes. Both lists only cover
+    // the auth user's own rows, whatever the role
+    TaskListVersion getCreatedTaskListVersion();
+
+    TaskListVersion getAssignedTaskListVersion();
+
+    // Delta sync: what changed since the cursor, a null cursor returns everything (full sync)
+    TaskChangesResponse getTaskChangesForAuthUser(String cursor, Integer size);
+
+    // Audit trail of one accessible task, newest first. Lags the writes by up to tasks.audit.flush-interval
+    PageResponse<TaskHistoryEntry> getTaskHistory(@NonNull Long taskId, String cursor, Integer size);
 
     // CRUD
     TaskResponse createTask(CreateTaskRequest request);
 
+    BatchCreateTaskResponse createTasks(List<CreateTaskRequest> requests);
+
     TaskResponse getTaskById(@NonNull Long taskId);
 
-    TaskResponse updateTask(@NonNull Long taskId, UpdateTaskRequest request);
+    // expectedVersions (If-Match) is optional: when set, the update only applies to one of those versions
+    TaskResponse updateTask(@NonNull Long taskId, UpdateTaskRequest request, Collection<Long> expectedVersions);
 
     void deleteTask(@NonNull Long taskId);
 
     // Status
-    TaskResponse updateTaskStatus(@NonNull Long taskId, Task.StatusEnum newStatus);
+    TaskResponse updateTaskStatus(@NonNull Long taskId, Task.StatusEnum newStatus, Collection<Long> expectedVersions);
+
+    BulkTaskStatusUpdateResponse updateTasksStatus(List<Long> taskIds, Task.StatusEnum newStatus);
 }
@@ -0,0 +1,202 @@
+package com.securetask.Service.audit;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Appends task change records to the task_audit table (V12) off the request path.
+ *
+ * Records are queued once the request transaction commits and written every
+ * {@code tasks.audit.flush-interval} as JDBC batches of up to {@code tasks.audit.batch-size}: the
+ * task write itself pays for building the record only, not for an insert per change. This is why
+ * the hibernate-envers dependency stays unused: auditing entities with it inserts the revision
+ * rows in the writing transaction.
+ *
+ * The price is that a crash loses the records still queued, and the history lags the change by up
+ * to the flush interval. A full queue makes the committing thread wait up to
+ * {@code tasks.audit.enqueue-timeout} in all, however many records it commits, then drops the rest
+ * and counts them in {@code tasks.audit.dropped}.
+ */
+@Service
+public class TaskAuditWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskAuditWriter.class);
+
+    private static final String INSERT = """
+        INSERT INTO task_audit (task_id, action, changed_by_user_id, changed_at, changes)
+        VALUES (?, ?, ?, ?, ?)
+        """;
+
+    private final BlockingQueue<TaskChangeRecord> queue;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+
+    // Serializes flushes; a lock rather than synchronized so a flush on a virtual thread does not
+    // pin its carrier through the JDBC batch
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // Records of a batch the database refused, written first on the next flush. Guarded by writeLock
+    private final List<TaskChangeRecord> retry = new ArrayList<>();
+
+    @Value("${tasks.audit.enabled}")
+    private boolean enabled;
+
+    @Value("${tasks.audit.batch-size}")
+    private int batchSize;
+
+    @Value("${tasks.audit.enqueue-timeout}")
+    private Duration enqueueTimeout;
+
+    public TaskAuditWriter(
+        @Value("${tasks.audit.queue-capacity}") int queueCapacity,
+        JdbcTemplate jdbcTemplate,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry)
+    {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+
+        Gauge.builder("tasks.audit.queued", queue, BlockingQueue::size)
+            .description("Task change records waiting to be written")
+            .register(meterRegistry);
+        this.writtenCounter = Counter.builder("tasks.audit.written")
+            .description("Task change records appended to the audit table")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("tasks.audit.dropped")
+            .description("Task change records dropped because the queue stayed full")
+            .register(meterRegistry);
+    }
+
+    // Queued only if the current transaction commits; immediately outside a transaction
+    public void recordAfterCommit(List<TaskChangeRecord> records)
+    {
+        if (!enabled || records.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(records);
+                }
+            });
+        } else {
+            enqueue(records);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.audit.flush-interval}", initialDelayString = "${tasks.audit.flush-interval}")
+    public void flush()
+    {
+        try {
+            writePending();
+        } catch (RuntimeException ex) {
+            logger.warn("Task audit write failed, retrying on the next flush", ex);
+        }
+    }
+
+    // Returns the number of records written
+    public int writePending()
+    {
+        writeLock.lock();
+        try {
+            int total = 0;
+            while (true) {
+                List<TaskChangeRecord> batch = new ArrayList<>(retry);
+                retry.clear();
+                queue.drainTo(batch, Math.max(batchSize - batch.size(), 0));
+                if (batch.isEmpty()) {
+                    return total;
+                }
+
+                try {
+                    jdbcTemplate.batchUpdate(INSERT, batch, batch.size(), (ps, record) -> {
+                        ps.setLong(1, record.taskId());
+                        ps.setString(2, record.action());
+                        ps.setObject(3, record.changedByUserId());
+                        ps.setTimestamp(4, Timestamp.valueOf(record.changedAt()));
+                        ps.setString(5, toJson(record));
+                    });
+                } catch (RuntimeException ex) {
+                    retry.addAll(batch);
+                    throw ex;
+                }
+
+                writtenCounter.increment(batch.size());
+                total += batch.size();
+                if (batch.size() < batchSize) {
+                    return total;
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close()
+    {
+        flush();
+    }
+
+
+    // One deadline for the whole call: a bulk change never waits more than the timeout in total
+    private void enqueue(List<TaskChangeRecord> records)
+    {
+        long deadline = System.nanoTime() + enqueueTimeout.toNanos();
+        int dropped = 0;
+        for (int i = 0; i < records.size(); i++) {
+            try {
+                if (!queue.offer(records.get(i), Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS)) {
+                    dropped++;
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                dropped += records.size() - i;
+                break;
+            }
+        }
+
+        if (dropped > 0) {
+            droppedCounter.increment(dropped);
+            logger.error("Task audit queue full, dropped {} of {} change records", dropped, records.size());
+        }
+    }
+
+    private String toJson(TaskChangeRecord record)
+    {
+        try {
+            return objectMapper.writeValueAsString(record.changes());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot serialize the changes of task " + record.taskId(), ex);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.securetask.Service.audit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.securetask.DTO.responses.TaskFieldChange;
+import com.securetask.DTO.responses.TaskResponse;
+
+/**
+ * What one audited write did to one task, built in the request transaction from the task as read
+ * and as saved: only the fields that differ are kept.
+ */
+public record TaskChangeRecord(
+    Long taskId,
+    String action,
+    Long changedByUserId,
+    LocalDateTime changedAt,
+    List<TaskFieldChange> changes
+) {
+
+    // before is null for a creation: every field that is set counts as changed
+    public static TaskChangeRecord of(String action, Long changedByUserId, TaskResponse before, TaskResponse after)
+    {
+        List<TaskFieldChange> changes = new ArrayList<>();
+        compare(changes, "title", before != null ? before.title() : null, after.title());
+        compare(changes, "description", before != null ? before.description() : null, after.description());
+        compare(changes, "status", before != null ? before.status() : null, after.status());
+        compare(changes, "priority", before != null ? before.priority() : null, after.priority());
+        compare(changes, "dueDate", before != null ? before.dueDate() : null, after.dueDate());
+        compare(changes, "assigneeId", before != null ? before.assigneeId() : null, after.assigneeId());
+
+        return new TaskChangeRecord(after.id(), action, changedByUserId, LocalDateTime.now(), changes);
+    }
+
+    private static void compare(List<TaskFieldChange> changes, String field, Object from, Object to)
+    {
+        if (!Objects.equals(from, to)) {
+            changes.add(new TaskFieldChange(field, from != null ? from.toString() : null, to != null ? to.toString() : null));
+        }
+    }
+}
@@ -7,7 +7,7 @@ import java.util.Objects;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 
 import com.securetask.DAO.UserDAO;
@@ -17,6 +17,7 @@ import com.securetask.DTO.requests.RefreshTokenRequest;
 import com.securetask.DTO.requests.RegisterRequest;
 import com.securetask.DTO.responses.AuthResponse;
 import com.securetask.Entitity.User;
+import com.securetask.Entitity.auth.AuthPrincipal;
 import com.securetask.Entitity.auth.RefreshToken;
 import com.securetask.Exception.InvalidTokenException;
 import com.securetask.Factory.UserFactory;
@@ -32,7 +33,6 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenService jwtTokenService;
     private final RefreshTokenService refreshTokenService;
-    private final AuthUserDetailsService userDetailsService;
     private final UserDAO userDAO;
     private final UserValidator userValidator;
     private final UserFactory userFactory;
@@ -44,11 +44,10 @@ public class AuthService {
         var token = new UsernamePasswordAuthenticationToken(authRequest.getEmail(), authRequest.getPassword());
         Authentication authentication = authenticationManager.authenticate(token);
 
-        String jwtToken = jwtTokenService.generateToken(authentication);
-        Long expiresAt = jwtTokenService.extractExpirationTime(jwtToken);
+        Jwt jwt = jwtTokenService.generateToken(authentication);
         RefreshToken refreshToken = refreshTokenService.createRefreshToken(authRequest.getEmail());
 
-        return new AuthResponse(jwtToken, refreshToken.getToken(), authentication.getName(), expiresAt);
+        return new AuthResponse(jwt.getTokenValue(), refreshToken.getToken(), authentication.getName(), jwt.getExpiresAt().toEpochMilli());
     }
 
     // Register new user with default role USER, and return JWT + refresh token
@@ -59,42 +58,26 @@ public class AuthService {
         User user = userFactory.createUser(userRequest, User.Role.USER);
         userDAO.save(Objects.requireNonNull(user));
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
+        // The saved user has everything the tokens need: no reload, and no previous token to delete
+        Jwt jwt = jwtTokenService.generateToken(user.getId(), user.getEmail(), user.getRole());
+        RefreshToken refreshToken = refreshTokenService.createInitialRefreshToken(user);
 
-        String jwtToken = jwtTokenService.generateToken(new UsernamePasswordAuthenticationToken(
-            userDetails, null, userDetails.getAuthorities())
-        );
-
-        RefreshToken refreshToken = refreshTokenService.createRefreshToken(user.getEmail());
-        Long expiresAt = jwtTokenService.extractExpirationTime(jwtToken);
-
-        return new AuthResponse(jwtToken, refreshToken.getToken(), user.getEmail(), expiresAt);
+        return new AuthResponse(jwt.getTokenValue(), refreshToken.getToken(), user.getEmail(), jwt.getExpiresAt().toEpochMilli());
     }
 
 
+    // One statement: the old token is swapped for the new one and its owner comes back with it,
+    // which is all the access token needs
     @Transactional
     public AuthResponse refresh(RefreshTokenRequest request) 
     {
-        RefreshToken oldRefreshToken = refreshTokenService.findByToken(request.getRefreshToken())
+        String newRefreshToken = refreshTokenService.newTokenValue();
+        AuthPrincipal owner = refreshTokenService.rotate(request.getRefreshToken(), newRefreshToken)
             .orElseThrow(() -> new InvalidTokenException("Invalid refresh token"));
-        
-        refreshTokenService.verifyExpiration(oldRefreshToken);
-        User user = oldRefreshToken.getUser();
-
-        // Rotate refresh token: delete old and create new
-        refreshTokenService.deleteByToken(request.getRefreshToken());
-        RefreshToken newRefreshToken = refreshTokenService.createRefreshToken(user.getEmail());
-
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-    
-        // Generate new JWT token with same user details and authorities
-        String jwtToken = jwtTokenService.generateToken(new UsernamePasswordAuthenticationToken(
-            userDetails, null, userDetails.getAuthorities())
-        );
 
-        Long expiresAt = jwtTokenService.extractExpirationTime(jwtToken);
+        Jwt jwt = jwtTokenService.generateToken(owner.id(), owner.email(), owner.role());
 
-        return new AuthResponse(jwtToken, newRefreshToken.getToken(), user.getEmail(), expiresAt);
+        return new AuthResponse(jwt.getTokenValue(), newRefreshToken, owner.email(), jwt.getExpiresAt().toEpochMilli());
     }
 
 
@@ -0,0 +1,121 @@
+package com.securetask.Service.auth;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.securetask.Exception.TooManyRequestsException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * In-memory rate limit on the auth endpoints, checked in AuthController before any password work.
+ *
+ * Each client IP and each account (email) has a token bucket: {@code burst} attempts at once, then
+ * {@code per-minute} more per minute. A bucket is stored as a single timestamp (GCRA, the
+ * "theoretical arrival time" of the next request) and updated with a CAS, so checking never locks.
+ * Buckets live in a bounded Caffeine table (striped internally) and are dropped after
+ * {@code idle-timeout} without requests; a dropped bucket is simply full again.
+ *
+ * Metrics: {@code auth.throttle.requests} by key type and outcome, and the bucket tables under
+ * {@code cache.*} ({@code auth.throttle.ip}, {@code auth.throttle.account}).
+ */
+@Component
+public class AuthThrottle {
+
+    private final boolean enabled;
+    private final Limiter byIp;
+    private final Limiter byAccount;
+
+    public AuthThrottle(
+        MeterRegistry meterRegistry,
+        @Value("${auth.throttle.enabled}") boolean enabled,
+        @Value("${auth.throttle.max-entries}") long maxEntries,
+        @Value("${auth.throttle.idle-timeout}") Duration idleTimeout,
+        @Value("${auth.throttle.ip.burst}") int ipBurst,
+        @Value("${auth.throttle.ip.per-minute}") int ipPerMinute,
+        @Value("${auth.throttle.account.burst}") int accountBurst,
+        @Value("${auth.throttle.account.per-minute}") int accountPerMinute)
+    {
+        this.enabled = enabled;
+        this.byIp = new Limiter("ip", ipBurst, ipPerMinute, maxEntries, idleTimeout, meterRegistry);
+        this.byAccount = new Limiter("account", accountBurst, accountPerMinute, maxEntries, idleTimeout, meterRegistry);
+    }
+
+    // Login and register: both cost a BCrypt hash, so both keys are charged
+    public void checkCredentialAttempt(String clientIp, String email)
+    {
+        checkClient(clientIp);
+        if (enabled && email != null) {
+            byAccount.acquire(email.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    public void checkClient(String clientIp)
+    {
+        if (enabled) {
+            byIp.acquire(clientIp);
+        }
+    }
+
+
+    private static final class Limiter {
+
+        private final long emissionIntervalNanos;
+        private final long burstToleranceNanos;
+        private final Cache<String, AtomicLong> buckets;
+        private final Counter allowed;
+        private final Counter rejected;
+
+        Limiter(String keyType, int burst, int perMinute, long maxEntries, Duration idleTimeout, MeterRegistry meterRegistry) {
+            this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / perMinute;
+            this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+            this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterAccess(idleTimeout)
+                .recordStats()
+                .build();
+
+            CaffeineCacheMetrics.monitor(meterRegistry, buckets, "auth.throttle." + keyType);
+            this.allowed = requestCounter(meterRegistry, keyType, "allowed");
+            this.rejected = requestCounter(meterRegistry, keyType, "rejected");
+        }
+
+        void acquire(String key) {
+            // Creating the bucket is a plain allocation, so get(key, loader) holds the bin lock only briefly
+            AtomicLong theoreticalArrival = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+
+            while (true) {
+                long now = System.nanoTime();
+                long current = theoreticalArrival.get();
+                long tat = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+
+                long wait = tat - now - burstToleranceNanos;
+                if (wait > 0) {
+                    rejected.increment();
+                    throw new TooManyRequestsException("Too many attempts, please retry later", Duration.ofNanos(wait));
+                }
+                if (theoreticalArrival.compareAndSet(current, tat + emissionIntervalNanos)) {
+                    allowed.increment();
+                    return;
+                }
+            }
+        }
+
+        private static Counter requestCounter(MeterRegistry meterRegistry, String keyType, String outcome) {
+            return Counter.builder("auth.throttle.requests")
+                .description("Auth requests checked by the throttle")
+                .tag("key", keyType)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+        }
+    }
+}
@@ -5,8 +5,8 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import com.securetask.DAO.UserDAO;
 import com.securetask.Entitity.auth.AuthUser;
-import com.securetask.Repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -14,11 +14,11 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AuthUserDetailsService implements UserDetailsService{
     
-    private final UserRepository userRepository;
+    private final UserDAO userDAO;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        return userRepository.findByEmail(email)
+        return userDAO.findByEmail(email)
                 .map(AuthUser::new)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
     }
@@ -0,0 +1,46 @@
+package com.securetask.Service.auth;
+
+import java.util.List;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.stereotype.Component;
+
+import com.securetask.Entitity.User;
+import com.securetask.Entitity.auth.AuthPrincipal;
+import com.securetask.Entitity.auth.AuthPrincipalAuthenticationToken;
+
+/**
+ * Builds the typed {@link AuthPrincipal} from the decoded access token claims written by
+ * {@link JwtTokenService#generateToken}, without any database round trip.
+ */
+@Component
+public class JwtPrincipalConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    @Override
+    public AbstractAuthenticationToken convert(@NonNull Jwt jwt) 
+    {
+        Object userId = jwt.getClaims().get(JwtTokenService.USER_ID_CLAIM);
+        String scope = jwt.getClaimAsString(JwtTokenService.SCOPE_CLAIM);
+
+        if (!(userId instanceof Number) || scope == null || !scope.startsWith(ROLE_PREFIX) || jwt.getSubject() == null) {
+            throw new InvalidBearerTokenException("Token is missing required claims");
+        }
+
+        User.Role role;
+        try {
+            role = User.Role.valueOf(scope.substring(ROLE_PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidBearerTokenException("Token carries an unknown role");
+        }
+
+        AuthPrincipal principal = new AuthPrincipal(((Number) userId).longValue(), jwt.getSubject(), role);
+        return new AuthPrincipalAuthenticationToken(principal, jwt, List.of(new SimpleGrantedAuthority(scope)));
+    }
+}
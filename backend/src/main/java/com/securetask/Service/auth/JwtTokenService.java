@@ -8,6 +8,9 @@ import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
 import org.springframework.security.oauth2.jwt.*;
 import org.springframework.stereotype.Service;
 
+import com.securetask.Entitity.User;
+import com.securetask.Entitity.auth.AuthUser;
+
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 
@@ -15,6 +18,9 @@ import java.time.temporal.ChronoUnit;
 @RequiredArgsConstructor
 public class JwtTokenService {
 
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String SCOPE_CLAIM = "scope";
+
     @Value("${spring.application.name}")
     private String issuer;
     
@@ -22,26 +28,31 @@ public class JwtTokenService {
     private Long expiration;
 
     private final JwtEncoder encoder;
-    private final JwtDecoder decoder;
 
-    public String generateToken(Authentication authentication) 
+    // The encoded Jwt carries the claims just signed, so callers read the expiry from it
+    // instead of decoding and verifying the token again
+    public Jwt generateToken(Authentication authentication) 
+    {
+        if (!(authentication.getPrincipal() instanceof AuthUser authUser)) {
+            throw new IllegalStateException("Unsupported principal: " + authentication.getPrincipal().getClass().getName());
+        }
+        return generateToken(authUser.getId(), authUser.getUsername(), authUser.getRole());
+    }
+
+    // The user id and real role travel in the token so that JwtPrincipalConverter can
+    // rebuild the principal without a users-table lookup on every request
+    public Jwt generateToken(Long userId, String email, User.Role role) 
     {
-        String scope = "ROLE_USER";
+        Instant now = Instant.now();
         JwtClaimsSet claims = JwtClaimsSet.builder()
                 .issuer(this.issuer)
-                .issuedAt(Instant.now())
-                .expiresAt(Instant.now().plus(this.expiration, ChronoUnit.MILLIS))
-                .subject(authentication.getName())
-                .claim("scope", scope)
+                .issuedAt(now)
+                .expiresAt(now.plus(this.expiration, ChronoUnit.MILLIS))
+                .subject(email)
+                .claim(USER_ID_CLAIM, userId)
+                .claim(SCOPE_CLAIM, "ROLE_" + role.name())
                 .build();
         var encoderParameters = JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS256).build(), claims);
-        return this.encoder.encode(encoderParameters).getTokenValue();
-    }
-
-    public Long extractExpirationTime(String token) 
-    {
-        Jwt jwt = decoder.decode(token);
-        var exp = (Instant) jwt.getClaim("exp");
-        return exp.toEpochMilli();
+        return this.encoder.encode(encoderParameters);
     }
 }
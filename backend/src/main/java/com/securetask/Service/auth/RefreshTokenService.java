@@ -8,12 +8,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.securetask.DAO.UserDAO;
 import com.securetask.Entitity.User;
+import com.securetask.Entitity.auth.AuthPrincipal;
 import com.securetask.Entitity.auth.RefreshToken;
 import com.securetask.Exception.ResourceNotFoundException;
-import com.securetask.Exception.RefreshTokenExpiredException;
 import com.securetask.Repository.RefreshTokenRepository;
-import com.securetask.Repository.UserRepository;
+import com.securetask.Repository.RefreshTokenRotationRepository;
 
 import jakarta.transaction.Transactional;
 
@@ -28,47 +29,59 @@ public class RefreshTokenService {
     private RefreshTokenRepository refreshTokenRepository;
     
     @Autowired
-    private UserRepository userRepository;
+    private RefreshTokenRotationRepository refreshTokenRotationRepository;
+
+    @Autowired
+    private UserDAO userDAO;
     
 
     @Transactional
     public RefreshToken createRefreshToken(String userEmail) 
     {
-        User user = userRepository.findByEmail(userEmail)
+        User user = userDAO.findByEmail(userEmail)
             .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         
         // Delete existing token for user (one active refresh token policy)
-        refreshTokenRepository.findByUser(user).ifPresent(token -> {
-            refreshTokenRepository.delete(token);
-            refreshTokenRepository.flush(); // Force immediate deletion
-        });
+        refreshTokenRepository.deleteByUser(user);
         
+        return createInitialRefreshToken(user);
+    }
+
+    // For a user that has no refresh token yet (just registered): nothing to delete
+    @Transactional
+    public RefreshToken createInitialRefreshToken(User user) 
+    {
+        String token = newTokenValue();
         RefreshToken refreshToken = new RefreshToken();
         refreshToken.setUser(user);
         refreshToken.setExpiryDate(Instant.now().plusMillis(refreshTokenDurationMs));
-        refreshToken.setToken(UUID.randomUUID().toString());
+        refreshToken.setTokenHash(TokenDigest.sha256Hex(token));
+        refreshToken.setToken(token);
         
         return refreshTokenRepository.save(refreshToken);
     }
     
-    public RefreshToken verifyExpiration(RefreshToken refreshToken) 
+    // Swaps the token for a new one in a single statement, see RefreshTokenRotationRepository
+    @Transactional
+    public Optional<AuthPrincipal> rotate(String oldToken, String newToken) 
     {
-        if (refreshToken.getExpiryDate().isBefore(Instant.now())) {
-            refreshTokenRepository.delete(refreshToken);
-            throw new RefreshTokenExpiredException("Refresh token expired. Please login again");
-        }
-        return refreshToken;
+        Instant now = Instant.now();
+        return refreshTokenRotationRepository.rotate(
+            TokenDigest.sha256Hex(oldToken),
+            TokenDigest.sha256Hex(newToken),
+            now,
+            now.plusMillis(refreshTokenDurationMs));
     }
-    
-    public Optional<RefreshToken> findByToken(String refreshToken) 
+
+    public String newTokenValue() 
     {
-        return refreshTokenRepository.findByToken(refreshToken);
+        return UUID.randomUUID().toString();
     }
 
 
     public void deleteByToken(String refreshToken) 
     {
-        refreshTokenRepository.deleteByToken(refreshToken);
+        refreshTokenRepository.deleteByTokenHash(TokenDigest.sha256Hex(refreshToken));
     }
 }
 
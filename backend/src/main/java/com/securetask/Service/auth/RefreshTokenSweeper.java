@@ -0,0 +1,65 @@
+package com.securetask.Service.auth;
+
+import java.time.Instant;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.securetask.Repository.RefreshTokenRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Deletes expired refresh tokens. Without it a token is only removed when it is presented again,
+ * so tokens of users who never come back would stay forever.
+ *
+ * Rows go in chunks of {@code sweep-batch-size}, each chunk in its own transaction, so a large
+ * backlog never holds locks on the table for long.
+ */
+@Service
+public class RefreshTokenSweeper {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenSweeper.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Counter purgedCounter;
+
+    @Value("${jwt.refresh-token.sweep-batch-size}")
+    private int batchSize;
+
+    public RefreshTokenSweeper(RefreshTokenRepository refreshTokenRepository, MeterRegistry meterRegistry) 
+    {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.purgedCounter = Counter.builder("refresh.tokens.purged")
+            .description("Expired refresh tokens deleted by the sweeper")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.sweep-interval}", initialDelayString = "${jwt.refresh-token.sweep-interval}")
+    public void sweep() 
+    {
+        int purged = purgeExpiredTokens();
+        if (purged > 0) {
+            logger.info("Purged {} expired refresh tokens", purged);
+        }
+    }
+
+    // Returns the number of rows deleted; tokens expiring during the run are left for the next one
+    public int purgeExpiredTokens() 
+    {
+        Instant now = Instant.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenRepository.deleteExpiredBatch(now, batchSize);
+            purgedCounter.increment(deleted);
+            total += deleted;
+        } while (deleted == batchSize);
+
+        return total;
+    }
+}
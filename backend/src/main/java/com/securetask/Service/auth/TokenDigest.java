@@ -0,0 +1,24 @@
+package com.securetask.Service.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 of a bearer value, as 64 lowercase hex characters. Used wherever a token has to be
+ * looked up or remembered without keeping the token itself.
+ */
+public final class TokenDigest {
+
+    private TokenDigest() {}
+
+    public static String sha256Hex(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -1,9 +1,24 @@
 package com.securetask.Service.impl;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.lang.NonNull;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,15 +26,55 @@ import org.springframework.transaction.annotation.Transactional;
 import com.securetask.DAO.TaskDAO;
 import com.securetask.DAO.UserDAO;
 import com.securetask.DTO.requests.CreateTaskRequest;
+import com.securetask.DTO.requests.TaskFilterRequest;
 import com.securetask.DTO.requests.UpdateTaskRequest;
+import com.securetask.DTO.responses.BatchCreateTaskResponse;
+import com.securetask.DTO.responses.BulkTaskStatusUpdateResponse;
+import com.securetask.DTO.responses.BulkTaskStatusUpdateResponse.Outcome;
+import com.securetask.DTO.responses.PageResponse;
+import com.securetask.DTO.responses.TaskChangesResponse;
+import com.securetask.DTO.responses.TaskCountResponse;
+import com.securetask.DTO.responses.TaskEvent;
+import com.securetask.DTO.responses.TaskFieldChange;
+import com.securetask.DTO.responses.TaskHistoryEntry;
 import com.securetask.DTO.responses.TaskResponse;
+import com.securetask.DTO.responses.UserTaskSummaryResponse;
 import com.securetask.Entitity.Task;
+import com.securetask.Entitity.TaskAuditEntry;
+import com.securetask.Entitity.TaskCountDelta;
+import com.securetask.Entitity.TaskOutboxEvent;
+import com.securetask.Entitity.TaskTombstone;
 import com.securetask.Entitity.User;
+import com.securetask.Entitity.auth.AuthPrincipal;
+import com.securetask.Exception.InvalidTokenException;
+import com.securetask.Exception.PreconditionFailedException;
 import com.securetask.Exception.ResourceNotFoundException;
+import com.securetask.Exception.SyncCursorExpiredException;
 import com.securetask.Exception.BadRequestException;
 import com.securetask.Mapper.TaskMapper;
+import com.securetask.Pagination.ChangeCursor;
+import com.securetask.Pagination.HistoryCursor;
+import com.securetask.Pagination.SearchCursor;
+import com.securetask.Pagination.TaskCursor;
+import com.securetask.Repository.TaskChange;
+import com.securetask.Repository.TaskChangePage;
+import com.securetask.Repository.TaskCount;
+import com.securetask.Repository.TaskListVersion;
+import com.securetask.Repository.TaskSearchHit;
+import com.securetask.Repository.TaskSpecifications;
+import com.securetask.Repository.TaskStatusSnapshot;
+import com.securetask.Service.TaskEventBroadcaster;
+import com.securetask.Service.TaskEventBroadcaster.Delivery;
 import com.securetask.Service.TaskService;
+import com.securetask.Service.audit.TaskAuditWriter;
+import com.securetask.Service.audit.TaskChangeRecord;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -30,6 +85,22 @@ public class TaskServiceImpl implements TaskService {
     private final TaskDAO taskDAO;
     private final UserDAO userDAO;
     private final TaskMapper taskMapper;
+    private final Validator validator;
+    private final TaskEventBroadcaster taskEvents;
+    private final ObjectMapper objectMapper;
+    private final TaskAuditWriter taskAudit;
+
+    @Value("${tasks.pagination.default-size}")
+    private int defaultPageSize;
+
+    @Value("${tasks.pagination.max-size}")
+    private int maxPageSize;
+
+    @Value("${tasks.batch.max-size}")
+    private int maxBatchSize;
+
+    @Value("${tasks.search.max-query-length}")
+    private int maxSearchQueryLength;
 
     // ==========================================
     // MANAGER METHODS
@@ -63,30 +134,188 @@ public class TaskServiceImpl implements TaskService {
             .toList();
     }
 
+    // Served from the counters (TaskCountDelta), not from the task rows
+    @Override
+    @Transactional(readOnly = true)
+    public UserTaskSummaryResponse getTaskSummaryForUser(@NonNull Long userId)
+    {
+        if (!userDAO.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found: " + userId);
+        }
+
+        return toSummary(userId, taskDAO.findTaskCountsByUserId(userId));
+    }
+
+    // Users with no assigned task are left out
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserTaskSummaryResponse> getTaskSummaries()
+    {
+        Map<Long, List<TaskCount>> byUser = taskDAO.findAllTaskCounts()
+            .stream()
+            .collect(Collectors.groupingBy(TaskCount::userId, LinkedHashMap::new, Collectors.toList()));
+
+        return byUser.entrySet().stream()
+            .map(entry -> toSummary(entry.getKey(), entry.getValue()))
+            .toList();
+    }
+
     // ==========================================
     // AUTH USER METHODS
     // ==========================================
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskResponse> getAllTasksAssignedToAuthUser() 
+    public PageResponse<TaskResponse> getAllTasksAssignedToAuthUser(String cursor, Integer size)
     {
-        User currentUser = getCurrentUser();
-        return taskDAO.findAllByAssigneeId(currentUser.getId())
-            .stream()
-            .map(taskMapper::toResponse)
+        AuthPrincipal currentUser = getCurrentUser();
+        int pageSize = resolvePageSize(size);
+
+        // Fetch one extra row to know whether another page exists
+        List<TaskResponse> rows = taskDAO.findResponsePageByAssigneeId(currentUser.id(), TaskCursor.decode(cursor), pageSize + 1);
+
+        return toPage(rows, pageSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<TaskResponse> getAllTasksCreatedByAuthUser(String cursor, Integer size)
+    {
+        AuthPrincipal currentUser = getCurrentUser();
+        int pageSize = resolvePageSize(size);
+
+        List<TaskResponse> rows = taskDAO.findResponsePageByCreatedById(currentUser.id(), TaskCursor.decode(cursor), pageSize + 1);
+
+        return toPage(rows, pageSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<TaskResponse> filterTasks(TaskFilterRequest filter, String cursor, Integer size)
+    {
+        if (filter.dueFrom() != null && filter.dueTo() != null && filter.dueFrom().isAfter(filter.dueTo())) {
+            throw new BadRequestException("dueFrom must not be after dueTo");
+        }
+
+        int pageSize = resolvePageSize(size);
+
+        List<TaskResponse> rows = taskDAO.findResponsePageBySpecification(
+            TaskSpecifications.matching(filter, getCurrentUser(), TaskCursor.decode(cursor)), pageSize + 1);
+
+        return toPage(rows, pageSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<TaskResponse> searchTasks(String query, String cursor, Integer size)
+    {
+        String terms = query != null ? query.strip() : "";
+        if (terms.isEmpty()) {
+            throw new BadRequestException("Search query must not be blank");
+        }
+        if (terms.length() > maxSearchQueryLength) {
+            throw new BadRequestException("Search query must be at most " + maxSearchQueryLength + " characters");
+        }
+
+        int pageSize = resolvePageSize(size);
+
+        List<TaskSearchHit> hits = taskDAO.searchForUser(terms, getCurrentUser(), SearchCursor.decode(cursor), pageSize + 1);
+
+        List<TaskResponse> items = hits.stream()
+            .limit(pageSize)
+            .map(TaskSearchHit::task)
             .toList();
+
+        if (hits.size() <= pageSize) {
+            return new PageResponse<>(items, null, false);
+        }
+        return new PageResponse<>(items, SearchCursor.of(hits.get(pageSize - 1)).encode(), true);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskResponse> getAllTasksCreatedByAuthUser() 
+    public TaskListVersion getCreatedTaskListVersion()
     {
-        User currentUser = getCurrentUser();
-        return taskDAO.findAllByCreatedById(currentUser.getId())
+        return taskDAO.findListVersionByCreatedById(getCurrentUser().id());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskListVersion getAssignedTaskListVersion()
+    {
+        return taskDAO.findListVersionByAssigneeId(getCurrentUser().id());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskChangesResponse getTaskChangesForAuthUser(String cursor, Integer size)
+    {
+        AuthPrincipal currentUser = getCurrentUser();
+        int pageSize = resolvePageSize(size);
+        ChangeCursor after = ChangeCursor.decode(cursor);
+        long afterSeq = after != null ? after.changeSeq() : 0;
+        boolean fullSync = after == null || after.fullSync();
+
+        TaskChangePage rows = taskDAO.findChangesForUser(currentUser.id(), afterSeq, after != null, pageSize + 1);
+
+        if (!fullSync && afterSeq < rows.purgedThrough()) {
+            throw new SyncCursorExpiredException("Changes before this cursor are no longer available, a full sync is required");
+        }
+
+        boolean hasMore = rows.changes().size() > pageSize;
+        List<TaskChange> page = hasMore ? rows.changes().subList(0, pageSize) : rows.changes();
+
+        // Only the latest entry of a task counts: deleted then re-shared is "changed", and the reverse "deleted"
+        Map<Long, TaskChange> latest = new LinkedHashMap<>();
+        for (TaskChange change : page) {
+            latest.remove(change.taskId());
+            latest.put(change.taskId(), change);
+        }
+
+        List<TaskResponse> changed = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        for (TaskChange change : latest.values()) {
+            if (change.type() == TaskChange.Type.CHANGED) {
+                changed.add(change.task());
+            } else {
+                deletedIds.add(change.taskId());
+            }
+        }
+
+        long lastRowSeq = page.isEmpty() ? afterSeq : page.get(page.size() - 1).changeSeq();
+        ChangeCursor next;
+        if (hasMore) {
+            next = new ChangeCursor(lastRowSeq, fullSync);
+        } else {
+            // Caught up: nothing of this user's is numbered up to last_seq past the last row, and a
+            // cursor there is never below the purge watermark
+            next = new ChangeCursor(Math.max(lastRowSeq, Math.max(rows.lastSeq(), rows.purgedThrough())), false);
+        }
+        return new TaskChangesResponse(changed, deletedIds, next.encode(), hasMore);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<TaskHistoryEntry> getTaskHistory(@NonNull Long taskId, String cursor, Integer size)
+    {
+        // Same access rule as reading the task, checked on the id alone. History outlives the task:
+        // after a delete it stays readable by the task's last audience until the tombstone is purged
+        AuthPrincipal currentUser = getCurrentUser();
+        if (!taskDAO.existsByIdForUser(taskId, currentUser) && !taskDAO.existsDeletedForUser(taskId, currentUser)) {
+            throw taskNotAccessible(taskId);
+        }
+
+        int pageSize = resolvePageSize(size);
+        List<TaskHistoryEntry> rows = taskDAO.findHistoryPage(taskId, HistoryCursor.decode(cursor), pageSize + 1)
             .stream()
-            .map(taskMapper::toResponse)
+            .map(this::toHistoryEntry)
             .toList();
+
+        if (rows.size() <= pageSize) {
+            return new PageResponse<>(rows, null, false);
+        }
+        List<TaskHistoryEntry> items = rows.subList(0, pageSize);
+        return new PageResponse<>(items, new HistoryCursor(items.get(pageSize - 1).id()).encode(), true);
     }
 
     // ==========================================
@@ -97,15 +326,21 @@ public class TaskServiceImpl implements TaskService {
     @Transactional(readOnly = true)
     public TaskResponse getTaskById(@NonNull Long taskId) 
     {
-        Task task = findTaskByIdWithOwnershipCheck(taskId);
-        return taskMapper.toResponse(task);
+        // One statement either way, with the ownership predicate in its WHERE clause: for a hot task
+        // the id check, the entity then coming from the second-level cache; otherwise the projection read
+        if (taskDAO.isCached(taskId)) {
+            return taskMapper.toResponse(findTaskByIdWithOwnershipCheck(taskId));
+        }
+        return taskDAO.findResponseByIdForUser(taskId, getCurrentUser())
+            .orElseThrow(() -> taskNotAccessible(taskId));
     }
 
     @Override
     @Transactional
     public TaskResponse createTask(CreateTaskRequest request) 
     {
-        User currentUser = getCurrentUser();
+        // The creator comes from the token: a reference is enough, no users-table read
+        User currentUser = userDAO.getReferenceById(getCurrentUser().id());
 
         User assignee = null;
         if (request.assigneeId() != null) {
@@ -114,28 +349,90 @@ public class TaskServiceImpl implements TaskService {
                     .orElseThrow(() -> new ResourceNotFoundException("Assignee not found: " + request.assigneeId()));
         }
 
-        Task task = Task.builder()
-                .title(request.title())
-                .description(request.description())
-                .status(Task.StatusEnum.TODO)
-                .assignee(assignee)
-                .createdBy(currentUser)
-                .build();
+        Task task = newTask(request, assignee, currentUser);
+
+        TaskResponse created = taskMapper.toResponse(taskDAO.save(task));
+
+        TaskEvent event = TaskEvent.of(TaskEvent.Type.CREATED, created);
+        recordEvents(List.of(event));
+        taskEvents.publishAfterCommit(event, audienceOf(created));
+        taskAudit.recordAfterCommit(List.of(TaskChangeRecord.of(event.type().name(), currentUser.getId(), null, created)));
+        countMoves(List.of(), List.of(created));
+        return created;
+    }
+
+    @Override
+    @Transactional
+    public BatchCreateTaskResponse createTasks(List<CreateTaskRequest> requests) 
+    {
+        if (requests.size() > maxBatchSize) {
+            throw new BadRequestException("A batch can contain at most " + maxBatchSize + " tasks");
+        }
+
+        User currentUser = userDAO.getReferenceById(getCurrentUser().id());
+
+        // Resolve every referenced assignee with a single IN query
+        Set<Long> requestedAssignees = requests.stream()
+            .filter(Objects::nonNull)
+            .map(CreateTaskRequest::assigneeId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Set<Long> existingAssignees = requestedAssignees.isEmpty() ? Set.of() : userDAO.findExistingIds(requestedAssignees);
+
+        List<Task> tasks = new ArrayList<>();
+        List<BatchCreateTaskResponse.BatchItemError> errors = new ArrayList<>();
+
+        for (int index = 0; index < requests.size(); index++) {
+            CreateTaskRequest request = requests.get(index);
+
+            String violations = validateBatchItem(request);
+            if (violations != null) {
+                errors.add(new BatchCreateTaskResponse.BatchItemError(index, violations));
+                continue;
+            }
+
+            Long assigneeId = request.assigneeId();
+            if (assigneeId != null && !existingAssignees.contains(assigneeId)) {
+                errors.add(new BatchCreateTaskResponse.BatchItemError(index, "Assignee not found: " + assigneeId));
+                continue;
+            }
+
+            User assignee = assigneeId != null ? userDAO.getReferenceById(assigneeId) : null;
+            tasks.add(newTask(request, assignee, currentUser));
+        }
+
+        List<TaskResponse> created = taskDAO.saveAll(tasks)
+            .stream()
+            .map(taskMapper::toResponse)
+            .toList();
 
-        return taskMapper.toResponse(taskDAO.save(task));
+        List<Delivery> deliveries = created.stream()
+            .map(response -> new Delivery(TaskEvent.of(TaskEvent.Type.CREATED, response), audienceOf(response)))
+            .toList();
+        recordEvents(deliveries.stream().map(Delivery::event).toList());
+        taskEvents.publishAfterCommit(deliveries);
+        taskAudit.recordAfterCommit(created.stream()
+            .map(response -> TaskChangeRecord.of(TaskEvent.Type.CREATED.name(), currentUser.getId(), null, response))
+            .toList());
+        countMoves(List.of(), created);
+        return new BatchCreateTaskResponse(created, errors);
     }
 
     @Override
     @Transactional
-    public TaskResponse updateTask(@NonNull Long taskId, UpdateTaskRequest request) 
+    public TaskResponse updateTask(@NonNull Long taskId, UpdateTaskRequest request, Collection<Long> expectedVersions) 
     {
         Task task = findTaskByIdWithOwnershipCheck(taskId);
+        checkExpectedVersion(task, expectedVersions);
+        TaskResponse before = taskMapper.toResponse(task);
 
         task = taskMapper.updateFromRequest(request, task);
 
+        Long lostAccess = null;
         if (request.assigneeId() != null) {
             User newAssignee = userDAO.findById(request.assigneeId())
                 .orElseThrow(() -> new ResourceNotFoundException("Assignee not found"));
+            lostAccess = recordLostAccess(task, newAssignee);
             task.setAssignee(newAssignee);
         }
 
@@ -144,26 +441,118 @@ public class TaskServiceImpl implements TaskService {
             task.setStatus(request.status());
         }
 
-        return taskMapper.toResponse(taskDAO.save(task));
+        TaskResponse updated = taskMapper.toResponse(saveVersioned(task, expectedVersions != null));
+
+        TaskEvent event = TaskEvent.of(TaskEvent.Type.UPDATED, updated);
+        recordEvents(List.of(event));
+
+        List<Delivery> deliveries = new ArrayList<>();
+        deliveries.add(new Delivery(event, audienceOf(updated)));
+        if (lostAccess != null) {
+            deliveries.add(new Delivery(new TaskEvent(TaskEvent.Type.DELETED, taskId, null, null, null), List.of(lostAccess)));
+        }
+        taskEvents.publishAfterCommit(deliveries);
+        audit(event.type(), before, updated);
+        countMove(before, updated);
+        return updated;
     }
 
     @Override
     @Transactional
-    public TaskResponse updateTaskStatus(@NonNull Long taskId, Task.StatusEnum newStatus) 
+    public TaskResponse updateTaskStatus(@NonNull Long taskId, Task.StatusEnum newStatus, Collection<Long> expectedVersions) 
     {
         Task task = findTaskByIdWithOwnershipCheck(taskId);
+        checkExpectedVersion(task, expectedVersions);
         validateStatusTransition(task.getStatus(), newStatus);
+        TaskResponse before = taskMapper.toResponse(task);
         task.setStatus(newStatus);
 
-        return taskMapper.toResponse(taskDAO.save(task));
+        TaskResponse updated = taskMapper.toResponse(saveVersioned(task, expectedVersions != null));
+
+        TaskEvent event = TaskEvent.of(TaskEvent.Type.STATUS_CHANGED, updated);
+        recordEvents(List.of(event));
+        taskEvents.publishAfterCommit(event, audienceOf(updated));
+        audit(event.type(), before, updated);
+        countMove(before, updated);
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public BulkTaskStatusUpdateResponse updateTasksStatus(List<Long> taskIds, Task.StatusEnum newStatus) 
+    {
+        Set<Long> ids = new LinkedHashSet<>(taskIds);
+        if (ids.size() > maxBatchSize) {
+            throw new BadRequestException("A batch can contain at most " + maxBatchSize + " tasks");
+        }
+
+        AuthPrincipal currentUser = getCurrentUser();
+
+        // One read classifies every id, one JDBC batch moves the eligible ones
+        List<TaskStatusSnapshot> snapshots = taskDAO.findStatusSnapshotsForUser(ids, currentUser);
+        Map<Long, Outcome> outcomes = classifyStatusTransition(snapshots, ids, status -> status.canTransitionTo(newStatus));
+
+        List<TaskStatusSnapshot> eligible = snapshots.stream()
+            .filter(snapshot -> outcomes.get(snapshot.id()) == Outcome.UPDATED)
+            .toList();
+
+        // A row another write changed since the read is reported as such, whatever it became:
+        // every side effect below is for the rows this request moved
+        Set<Long> moved = eligible.isEmpty() ? Set.of() : Set.copyOf(taskDAO.transitionStatus(eligible, newStatus));
+        eligible.stream()
+            .filter(snapshot -> !moved.contains(snapshot.id()))
+            .forEach(snapshot -> outcomes.put(snapshot.id(), Outcome.CONCURRENTLY_MODIFIED));
+        List<TaskStatusSnapshot> transitioned = eligible.stream()
+            .filter(snapshot -> moved.contains(snapshot.id()))
+            .toList();
+
+        List<BulkTaskStatusUpdateResponse.TaskStatusResult> results = ids.stream()
+            .map(id -> new BulkTaskStatusUpdateResponse.TaskStatusResult(id, outcomes.get(id)))
+            .toList();
+
+        // The snapshots give the audience; the new state is the status alone, nothing else changed
+        List<Delivery> deliveries = transitioned.stream()
+            .map(snapshot -> new Delivery(
+                new TaskEvent(TaskEvent.Type.STATUS_CHANGED, snapshot.id(), newStatus.toString(), snapshot.version() + 1, null),
+                audienceOf(snapshot.createdByUserId(), snapshot.assigneeId())))
+            .toList();
+        recordEvents(deliveries.stream().map(Delivery::event).toList());
+        taskEvents.publishAfterCommit(deliveries);
+
+        taskAudit.recordAfterCommit(transitioned.stream()
+            .map(snapshot -> new TaskChangeRecord(snapshot.id(), TaskEvent.Type.STATUS_CHANGED.name(), currentUser.id(), LocalDateTime.now(),
+                List.of(new TaskFieldChange("status", snapshot.status().toString(), newStatus.toString()))))
+            .toList());
+
+        List<TaskCountDelta> moves = new ArrayList<>();
+        transitioned.stream()
+            .filter(snapshot -> snapshot.assigneeId() != null)
+            .forEach(snapshot -> {
+                moves.add(new TaskCountDelta(null, snapshot.assigneeId(), snapshot.status(), snapshot.priority(), -1));
+                moves.add(new TaskCountDelta(null, snapshot.assigneeId(), newStatus, snapshot.priority(), 1));
+            });
+        if (!moves.isEmpty()) {
+            taskDAO.appendCountDeltas(moves);
+        }
+
+        return new BulkTaskStatusUpdateResponse(results);
     }
 
     @Override
     @Transactional
     public void deleteTask(@NonNull Long taskId) 
     {
-        findTaskByIdWithOwnershipCheck(taskId);
-        taskDAO.deleteById(taskId);
+        AuthPrincipal currentUser = getCurrentUser();
+
+        // The deleted row, read under lock: who to notify
+        TaskStatusSnapshot deleted = taskDAO.deleteByIdForUser(taskId, currentUser)
+            .orElseThrow(() -> taskNotAccessible(taskId));
+
+        TaskEvent event = new TaskEvent(TaskEvent.Type.DELETED, taskId, null, null, null);
+        recordEvents(List.of(event));
+        taskAudit.recordAfterCommit(List.of(
+            new TaskChangeRecord(taskId, event.type().name(), currentUser.id(), LocalDateTime.now(), List.of())));
+        taskEvents.publishAfterCommit(event, audienceOf(deleted.createdByUserId(), deleted.assigneeId()));
     }
 
     
@@ -172,47 +561,260 @@ public class TaskServiceImpl implements TaskService {
     // PRIVATE HELPERS
     // ==========================================
 
-    private User getCurrentUser() 
+    private AuthPrincipal getCurrentUser() 
     {
-        String email = SecurityContextHolder.getContext()
-            .getAuthentication()
-            .getName();
-        
-        return userDAO.findByEmail(email)
-            .orElseThrow(() -> new ResourceNotFoundException("Authenticated user not found"));
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthPrincipal principal)) {
+            throw new InvalidTokenException("Authenticated user not found");
+        }
+        return principal;
     }
 
     private Task findTaskByIdWithOwnershipCheck(@NonNull Long taskId) 
     {
-        Task task = taskDAO.findById(taskId)
-            .orElseThrow(() -> new ResourceNotFoundException("Task not found: " + taskId));
+        return taskDAO.findByIdForUser(taskId, getCurrentUser())
+            .orElseThrow(() -> taskNotAccessible(taskId));
+    }
+
+    // Only reached when an owner-checked statement matched nothing:
+    // one existence probe tells "not found" (404) apart from "forbidden" (403)
+    private RuntimeException taskNotAccessible(@NonNull Long taskId)
+    {
+        if (taskDAO.existsById(taskId)) {
+            return new AccessDeniedException("You don't have access to this task");
+        }
+        return new ResourceNotFoundException("Task not found: " + taskId);
+    }
+
+
+    // If-Match: the version the client last read must be the one just loaded. From there on the
+    // @Version lock (UPDATE ... WHERE version = ?) catches a write committed in between
+    private void checkExpectedVersion(Task task, Collection<Long> expectedVersions)
+    {
+        if (expectedVersions != null && !expectedVersions.contains(task.getVersion())) {
+            throw new PreconditionFailedException("Task " + task.getId() + " is at version " + task.getVersion() + ", not " + expectedVersions);
+        }
+    }
+
+    // Flushed, so the response carries the new version (the next ETag). A lost race is a 412 for
+    // a conditional request, the usual 409 otherwise
+    private Task saveVersioned(Task task, boolean conditional)
+    {
+        Long readVersion = task.getVersion();
+        try {
+            return taskDAO.saveAndFlush(task);
+        } catch (OptimisticLockingFailureException ex) {
+            if (!conditional) {
+                throw ex;
+            }
+            throw new PreconditionFailedException("Task " + task.getId() + " was modified since version " + readVersion);
+        }
+    }
 
-        User currentUser = getCurrentUser();
 
-        // Admin and Manager bypass ownership check
-        boolean isAdminOrManager = currentUser.getRole() == User.Role.ADMIN 
-            || currentUser.getRole() == User.Role.MANAGER;
+    // A reassigned task leaves the previous assignee's change feed, unless they also created it.
+    // Returns that previous assignee, null when nobody lost access
+    private Long recordLostAccess(Task task, User newAssignee)
+    {
+        User previous = task.getAssignee();
+        if (previous == null
+                || previous.getId().equals(newAssignee.getId())
+                || (task.getCreatedBy() != null && previous.getId().equals(task.getCreatedBy().getId()))) {
+            return null;
+        }
 
-        boolean isOwnerOrAssignee = task.getCreatedBy() != null && task.getCreatedBy().getId().equals(currentUser.getId())
-            || (task.getAssignee() != null && task.getAssignee().getId().equals(currentUser.getId()));
+        taskDAO.saveTombstone(TaskTombstone.builder()
+            .taskId(task.getId())
+            .assigneeId(previous.getId())
+            .deletedAt(LocalDateTime.now())
+            .build());
+        return previous.getId();
+    }
 
-        if (!isAdminOrManager && !isOwnerOrAssignee) {
-            throw new AccessDeniedException("You don't have access to this task");
+    // Outbox rows for integrations, inserted with the task change (see TaskOutboxRelay)
+    private void recordEvents(List<TaskEvent> events)
+    {
+        if (events.isEmpty()) {
+            return;
         }
 
-        return task;
+        List<TaskOutboxEvent> rows = new ArrayList<>(events.size());
+        for (TaskEvent event : events) {
+            try {
+                rows.add(TaskOutboxEvent.builder()
+                    .taskId(event.taskId())
+                    .eventType(event.type().name())
+                    .payload(objectMapper.writeValueAsString(event))
+                    .build());
+            } catch (JsonProcessingException ex) {
+                throw new IllegalStateException("Cannot serialize task event for task " + event.taskId(), ex);
+            }
+        }
+        taskDAO.appendToOutbox(rows);
     }
 
+    // Nothing is recorded when the write left every audited field as it was
+    private void audit(TaskEvent.Type action, TaskResponse before, TaskResponse after)
+    {
+        TaskChangeRecord record = TaskChangeRecord.of(action.name(), getCurrentUser().id(), before, after);
+        if (!record.changes().isEmpty()) {
+            taskAudit.recordAfterCommit(List.of(record));
+        }
+    }
 
-    private void validateStatusTransition(Task.StatusEnum current, Task.StatusEnum next) 
+    // Per-user counters: each task leaves the key (assignee, status, priority) it was counted under,
+    // "before", and joins its new one, "after". Unassigned tasks are not counted
+    private void countMoves(List<TaskResponse> before, List<TaskResponse> after)
     {
-        boolean valid = switch (current) {
-            case TODO -> next == Task.StatusEnum.IN_PROGRESS;
-            case IN_PROGRESS -> next == Task.StatusEnum.DONE;
-            case DONE -> false;  // Cannot transition from DONE
-        };
+        List<TaskCountDelta> deltas = new ArrayList<>();
+        before.forEach(task -> addCountDelta(deltas, task, -1));
+        after.forEach(task -> addCountDelta(deltas, task, 1));
+        if (!deltas.isEmpty()) {
+            taskDAO.appendCountDeltas(deltas);
+        }
+    }
 
-        if (!valid) {
+    private void countMove(TaskResponse before, TaskResponse after)
+    {
+        boolean sameKey = Objects.equals(before.assigneeId(), after.assigneeId())
+            && Objects.equals(before.status(), after.status())
+            && Objects.equals(before.priority(), after.priority());
+        if (!sameKey) {
+            countMoves(List.of(before), List.of(after));
+        }
+    }
+
+    private static void addCountDelta(List<TaskCountDelta> deltas, TaskResponse task, int delta)
+    {
+        if (task.assigneeId() != null) {
+            deltas.add(new TaskCountDelta(null, task.assigneeId(), Task.StatusEnum.valueOf(task.status()),
+                task.priority() != null ? Task.PriorityEnum.valueOf(task.priority()) : null, delta));
+        }
+    }
+
+    private static UserTaskSummaryResponse toSummary(Long userId, List<TaskCount> counts)
+    {
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (Task.StatusEnum status : Task.StatusEnum.values()) {
+            byStatus.put(status.toString(), 0L);
+        }
+
+        long total = 0;
+        List<TaskCountResponse> responses = new ArrayList<>();
+        for (TaskCount count : counts) {
+            total += count.count();
+            byStatus.merge(count.status().toString(), count.count(), Long::sum);
+            responses.add(new TaskCountResponse(count.status().toString(),
+                count.priority() != null ? count.priority().toString() : null, count.count()));
+        }
+        return new UserTaskSummaryResponse(userId, total, byStatus, responses);
+    }
+
+    private TaskHistoryEntry toHistoryEntry(TaskAuditEntry entry)
+    {
+        try {
+            List<TaskFieldChange> changes = objectMapper.readValue(entry.getChanges(), new TypeReference<List<TaskFieldChange>>() {});
+            return new TaskHistoryEntry(entry.getId(), entry.getAction(), entry.getChangedByUserId(), entry.getChangedAt(), changes);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unreadable audit entry " + entry.getId(), ex);
+        }
+    }
+
+    private static List<Long> audienceOf(TaskResponse task)
+    {
+        return audienceOf(task.createdByUserId(), task.assigneeId());
+    }
+
+    // Creator and assignee, once each
+    private static List<Long> audienceOf(Long createdByUserId, Long assigneeId)
+    {
+        if (assigneeId == null || assigneeId.equals(createdByUserId)) {
+            return createdByUserId != null ? List.of(createdByUserId) : List.of();
+        }
+        return createdByUserId != null ? List.of(createdByUserId, assigneeId) : List.of(assigneeId);
+    }
+
+    private Task newTask(CreateTaskRequest request, User assignee, User createdBy)
+    {
+        return Task.builder()
+                .title(request.title())
+                .description(request.description())
+                .status(Task.StatusEnum.TODO)
+                .assignee(assignee)
+                .createdBy(createdBy)
+                .build();
+    }
+
+    // Same constraints and message format as the @Valid single-task endpoint, null when valid
+    private String validateBatchItem(CreateTaskRequest request)
+    {
+        if (request == null) {
+            return "Task must not be null";
+        }
+
+        Set<ConstraintViolation<CreateTaskRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+
+        return violations.stream()
+            .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+            .sorted()
+            .collect(Collectors.joining(", "));
+    }
+
+    // Rows that are found, accessible and whose status passes the check are reported as UPDATED
+    private Map<Long, Outcome> classifyStatusTransition(List<TaskStatusSnapshot> snapshots, Collection<Long> ids, Predicate<Task.StatusEnum> updated)
+    {
+        Map<Long, TaskStatusSnapshot> byId = snapshots.stream()
+            .collect(Collectors.toMap(TaskStatusSnapshot::id, Function.identity()));
+
+        Map<Long, Outcome> outcomes = new HashMap<>();
+        for (Long id : ids) {
+            TaskStatusSnapshot snapshot = byId.get(id);
+
+            Outcome outcome;
+            if (snapshot == null) {
+                outcome = Outcome.NOT_FOUND;
+            } else if (!snapshot.accessible()) {
+                outcome = Outcome.FORBIDDEN;
+            } else if (updated.test(snapshot.status())) {
+                outcome = Outcome.UPDATED;
+            } else {
+                outcome = Outcome.INVALID_TRANSITION;
+            }
+            outcomes.put(id, outcome);
+        }
+        return outcomes;
+    }
+
+    private int resolvePageSize(Integer size)
+    {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new BadRequestException("Page size must be at least 1");
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    private PageResponse<TaskResponse> toPage(List<TaskResponse> rows, int pageSize)
+    {
+        if (rows.size() <= pageSize) {
+            return new PageResponse<>(rows, null, false);
+        }
+
+        List<TaskResponse> items = rows.subList(0, pageSize);
+        String nextCursor = TaskCursor.of(items.get(items.size() - 1)).encode();
+        return new PageResponse<>(items, nextCursor, true);
+    }
+
+
+    private void validateStatusTransition(Task.StatusEnum current, Task.StatusEnum next) 
+    {
+        if (!current.canTransitionTo(next)) {
             throw new BadRequestException(
                 "Invalid transition: " + current + " → " + next
             );
@@ -0,0 +1,57 @@
+package com.securetask.Service.outbox;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Appends each batch to a JSON Lines file, one message per line, and forces it to disk before the
+ * rows are deleted. A local stand-in for a broker.
+ */
+@Component
+@ConditionalOnProperty(name = "tasks.outbox.sink", havingValue = "file")
+public class FileTaskEventSink implements TaskEventSink {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    // Not synchronized: a virtual thread blocked in the write or force would pin its carrier
+    private final ReentrantLock appendLock = new ReentrantLock();
+
+    public FileTaskEventSink(@Value("${tasks.outbox.file}") Path file, ObjectMapper objectMapper) throws IOException
+    {
+        this.file = file.toAbsolutePath();
+        this.objectMapper = objectMapper;
+        Files.createDirectories(this.file.getParent());
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) throws IOException
+    {
+        appendLock.lock();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+             BufferedWriter writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8))) {
+            for (OutboxMessage message : messages) {
+                writer.write(objectMapper.writeValueAsString(message));
+                writer.newLine();
+            }
+            writer.flush();
+            channel.force(false);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.securetask.Service.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Keeps what was relayed, for tests and local runs
+@Component
+@ConditionalOnProperty(name = "tasks.outbox.sink", havingValue = "memory")
+public class InMemoryTaskEventSink implements TaskEventSink {
+
+    private final List<OutboxMessage> published = new ArrayList<>();
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> messages)
+    {
+        published.addAll(messages);
+    }
+
+    public synchronized List<OutboxMessage> published()
+    {
+        return List.copyOf(published);
+    }
+}
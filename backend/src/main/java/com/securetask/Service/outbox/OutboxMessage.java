@@ -0,0 +1,15 @@
+package com.securetask.Service.outbox;
+
+import java.time.LocalDateTime;
+
+// One relayed outbox row. id is unique, for dropping redeliveries, but not ordered: the sequence
+// hands out blocks of 50 per instance. Consumers order a task's events by the version in the payload
+public record OutboxMessage(
+    long id,
+    Long taskId,
+    String eventType,
+    String payload,
+    LocalDateTime createdAt
+) {
+
+}
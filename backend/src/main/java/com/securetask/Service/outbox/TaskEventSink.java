@@ -0,0 +1,15 @@
+package com.securetask.Service.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of the task outbox, picked by {@code tasks.outbox.sink}.
+ *
+ * {@link #publish} gets a batch in id order and must return only once the whole batch is durably
+ * accepted: the rows are deleted right after. Throwing leaves the batch in the outbox, to be retried
+ * on the next run, so delivery is at least once.
+ */
+public interface TaskEventSink {
+
+    void publish(List<OutboxMessage> messages) throws Exception;
+}
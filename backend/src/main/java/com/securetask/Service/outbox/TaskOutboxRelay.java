@@ -0,0 +1,151 @@
+package com.securetask.Service.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Drains the task outbox (V11) into the {@link TaskEventSink}.
+ *
+ * Each batch is one transaction: the oldest rows are locked with FOR UPDATE SKIP LOCKED, published,
+ * then deleted. Several instances can relay at once, each skipping the rows another one holds. A
+ * failed publish rolls back and leaves the rows for the next run; a crash between publish and
+ * commit republishes them, so consumers must be idempotent (the message id identifies an event) and
+ * order a task's events by the task version in the payload, not by id or arrival.
+ *
+ * Metrics: {@code tasks.outbox.relayed} (throughput), {@code tasks.outbox.publish} (sink latency
+ * per batch), {@code tasks.outbox.failures}, and {@code tasks.outbox.lag}, the age in seconds of the
+ * oldest event in the outbox at the last run (0 when it was empty).
+ */
+@Service
+public class TaskOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskOutboxRelay.class);
+
+    private static final String NEXT_BATCH = """
+        SELECT id, task_id, event_type, payload, created_at
+        FROM task_outbox
+        ORDER BY id
+        LIMIT ?
+        FOR UPDATE SKIP LOCKED
+        """;
+
+    private static final String DELETE = "DELETE FROM task_outbox WHERE id = ?";
+
+    // Not the lowest id: pooled ids (INCREMENT BY 50) are handed out in blocks per instance,
+    // so a low id can be younger than rows written since by another instance
+    private static final String OLDEST = "SELECT min(created_at) FROM task_outbox";
+
+    private final TaskEventSink sink;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter relayedCounter;
+    private final Counter failureCounter;
+    private final Timer publishTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    @Value("${tasks.outbox.batch-size}")
+    private int batchSize;
+
+    public TaskOutboxRelay(
+        TaskEventSink sink,
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry)
+    {
+        this.sink = sink;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.relayedCounter = Counter.builder("tasks.outbox.relayed")
+            .description("Task events published to the sink and removed from the outbox")
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder("tasks.outbox.failures")
+            .description("Outbox batches the sink rejected, left for the next run")
+            .register(meterRegistry);
+        this.publishTimer = Timer.builder("tasks.outbox.publish")
+            .description("Time for the sink to accept one batch")
+            .register(meterRegistry);
+        Gauge.builder("tasks.outbox.lag", lagMillis, lag -> lag.get() / 1000.0)
+            .description("Age of the oldest outbox event at the last relay run")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.outbox.relay-interval}", initialDelayString = "${tasks.outbox.relay-interval}")
+    public void relay()
+    {
+        try {
+            relayPending();
+        } catch (RuntimeException ex) {
+            logger.warn("Task outbox relay failed, retrying on the next run", ex);
+        }
+    }
+
+    // Returns the number of events relayed; stops at the first failed batch (rethrown)
+    public int relayPending()
+    {
+        int total = 0;
+        int relayed;
+        boolean first = true;
+        do {
+            boolean measureLag = first;
+            relayed = transactionTemplate.execute(status -> relayBatch(measureLag));
+            total += relayed;
+            first = false;
+        } while (relayed == batchSize);
+
+        return total;
+    }
+
+
+    private int relayBatch(boolean measureLag)
+    {
+        List<OutboxMessage> batch = jdbcTemplate.query(NEXT_BATCH,
+            (rs, i) -> new OutboxMessage(
+                rs.getLong("id"),
+                rs.getLong("task_id"),
+                rs.getString("event_type"),
+                rs.getString("payload"),
+                rs.getTimestamp("created_at").toLocalDateTime()),
+            batchSize);
+
+        if (measureLag) {
+            LocalDateTime oldest = jdbcTemplate.queryForObject(OLDEST, LocalDateTime.class);
+            lagMillis.set(oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toMillis());
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            publishTimer.recordCallable(() -> {
+                sink.publish(batch);
+                return null;
+            });
+        } catch (Exception ex) {
+            failureCounter.increment();
+            throw new IllegalStateException("Task event sink rejected " + batch.size() + " events", ex);
+        }
+
+        // One JDBC batch; only rows this transaction locked
+        jdbcTemplate.batchUpdate(DELETE, batch, batch.size(), (ps, message) -> ps.setLong(1, message.id()));
+        relayedCounter.increment(batch.size());
+        return batch.size();
+    }
+}
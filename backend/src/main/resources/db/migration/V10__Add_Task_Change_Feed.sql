@@ -0,0 +1,36 @@
+-- Change feed for delta sync (GET /api/v1/tasks/changes), numbered by TaskChangeSequencer.
+-- change_seq stays NULL until the sequencer numbers the row; every insert and update resets it.
+ALTER TABLE tasks ADD COLUMN change_seq BIGINT;
+
+-- A task that a user can no longer see: deleted (creator and assignee) or reassigned (previous assignee)
+CREATE TABLE task_tombstones (
+    id BIGSERIAL PRIMARY KEY,
+    task_id BIGINT NOT NULL,
+    created_by_user_id BIGINT,
+    assignee_id BIGINT,
+    deleted_at TIMESTAMP NOT NULL,
+    change_seq BIGINT
+);
+
+-- Single row: last number handed out, and the highest number whose tombstones were purged
+CREATE TABLE task_sync_state (
+    id INTEGER PRIMARY KEY,
+    last_seq BIGINT NOT NULL,
+    purged_through BIGINT NOT NULL
+);
+
+-- Existing tasks enter the feed in id order
+UPDATE tasks SET change_seq = id;
+INSERT INTO task_sync_state (id, last_seq, purged_through) VALUES (1, COALESCE((SELECT MAX(id) FROM tasks), 0), 0);
+
+-- One range scan per audience column serves a sync, an empty one when nothing changed
+CREATE INDEX idx_tasks_created_by_change_seq ON tasks (created_by_user_id, change_seq);
+CREATE INDEX idx_tasks_assignee_change_seq ON tasks (assignee_id, change_seq);
+CREATE INDEX idx_task_tombstones_created_by_change_seq ON task_tombstones (created_by_user_id, change_seq);
+CREATE INDEX idx_task_tombstones_assignee_change_seq ON task_tombstones (assignee_id, change_seq);
+
+-- The sequencer's work queue, only as large as the backlog
+CREATE INDEX idx_tasks_unsequenced ON tasks (id) WHERE change_seq IS NULL;
+CREATE INDEX idx_task_tombstones_unsequenced ON task_tombstones (id) WHERE change_seq IS NULL;
+
+CREATE INDEX idx_task_tombstones_deleted_at ON task_tombstones (deleted_at);
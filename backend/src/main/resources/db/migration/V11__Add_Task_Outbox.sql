@@ -0,0 +1,13 @@
+-- Transactional outbox: task domain events written with the task, relayed by TaskOutboxRelay.
+-- Ids come from Hibernate's pooled optimizer (allocationSize = 50) so inserts are batched.
+CREATE SEQUENCE task_outbox_id_seq INCREMENT BY 50;
+
+CREATE TABLE task_outbox (
+    id BIGINT PRIMARY KEY DEFAULT nextval('task_outbox_id_seq'),
+    task_id BIGINT NOT NULL,
+    event_type VARCHAR(32) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+-- Relayed rows are deleted: the table only holds the backlog, and the primary key orders it
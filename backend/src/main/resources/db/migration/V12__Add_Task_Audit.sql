@@ -0,0 +1,13 @@
+-- Task audit trail: one row per task change with the changed fields as JSON
+-- ([{"field", "from", "to"}]), appended in batches by TaskAuditWriter after the change commits
+CREATE TABLE task_audit (
+    id BIGSERIAL PRIMARY KEY,
+    task_id BIGINT NOT NULL,
+    action VARCHAR(32) NOT NULL,
+    changed_by_user_id BIGINT,
+    changed_at TIMESTAMP NOT NULL,
+    changes TEXT NOT NULL
+);
+
+-- History of one task, newest first, keyset paginated on id (no foreign key: history outlives the task)
+CREATE INDEX idx_task_audit_task_id ON task_audit (task_id, id DESC);
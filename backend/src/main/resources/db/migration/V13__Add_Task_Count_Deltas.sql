@@ -0,0 +1,14 @@
+-- Per-user task counters (assignee, status, priority) for the manager dashboards. Writers only
+-- insert +1/-1 rows, so concurrent writes to one user's counters never wait on each other;
+-- TaskCountMaintainer folds the rows of each key into one and reconciles them with tasks.
+-- A count is SUM(delta) over the rows of its key.
+CREATE TABLE task_count_deltas (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    priority VARCHAR(50),
+    delta INT NOT NULL
+);
+
+-- Summary of one user
+CREATE INDEX idx_task_count_deltas_user_id ON task_count_deltas (user_id);
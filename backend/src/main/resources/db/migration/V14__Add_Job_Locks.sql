@@ -0,0 +1,7 @@
+-- One row per background job that must not run on two instances at once. The job locks its row
+-- with SELECT ... FOR UPDATE for the duration of a run.
+CREATE TABLE job_locks (
+    name VARCHAR(64) PRIMARY KEY
+);
+
+INSERT INTO job_locks (name) VALUES ('task-count-reconciliation');
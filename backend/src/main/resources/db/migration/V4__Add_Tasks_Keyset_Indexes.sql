@@ -0,0 +1,7 @@
+-- Composite indexes backing the keyset pagination on (created_at, id)
+CREATE INDEX idx_tasks_created_by_created_at_id ON tasks (created_by_user_id, created_at, id);
+CREATE INDEX idx_tasks_assignee_created_at_id ON tasks (assignee_id, created_at, id);
+
+-- Superseded by the composite indexes above (same leading column)
+DROP INDEX idx_tasks_created_by_user_id;
+DROP INDEX idx_tasks_assignee_id;
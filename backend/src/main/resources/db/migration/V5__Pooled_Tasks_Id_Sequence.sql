@@ -0,0 +1,3 @@
+-- Task ids are now allocated by Hibernate's pooled optimizer (allocationSize = 50),
+-- which requires the sequence increment to match the allocation size.
+ALTER SEQUENCE tasks_id_seq INCREMENT BY 50;
@@ -0,0 +1,2 @@
+-- Optimistic locking on users, also used by the second-level cache to reject stale entries
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
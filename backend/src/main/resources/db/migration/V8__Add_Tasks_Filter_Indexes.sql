@@ -0,0 +1,7 @@
+-- Composite indexes for the task filter: equality columns first, due date range last
+CREATE INDEX idx_tasks_assignee_status_due_date ON tasks (assignee_id, status, due_date);
+CREATE INDEX idx_tasks_created_by_status_due_date ON tasks (created_by_user_id, status, due_date);
+CREATE INDEX idx_tasks_status_due_date ON tasks (status, due_date);
+
+-- Superseded by idx_tasks_status_due_date (same leading column)
+DROP INDEX idx_tasks_status;
@@ -0,0 +1,14 @@
+-- Store a SHA-256 digest of the refresh token instead of the token itself.
+-- Tokens issued before this migration stay valid: their digest is computed in place.
+ALTER TABLE refresh_tokens ADD COLUMN token_hash CHAR(64);
+UPDATE refresh_tokens SET token_hash = encode(sha256(convert_to(token, 'UTF8')), 'hex');
+ALTER TABLE refresh_tokens ALTER COLUMN token_hash SET NOT NULL;
+ALTER TABLE refresh_tokens ADD CONSTRAINT uq_refresh_tokens_token_hash UNIQUE (token_hash);
+
+-- The unique constraint above indexes the lookups, the old token index goes with its column
+DROP INDEX idx_refresh_tokens_token;
+ALTER TABLE refresh_tokens DROP COLUMN token;
+
+-- Login replaces the user's token, the sweeper deletes by expiry date
+CREATE INDEX idx_refresh_tokens_user_id ON refresh_tokens (user_id);
+CREATE INDEX idx_refresh_tokens_expiry_date ON refresh_tokens (expiry_date);
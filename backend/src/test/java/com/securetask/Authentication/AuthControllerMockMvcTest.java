@@ -1,21 +1,39 @@
 package com.securetask.Authentication;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.securetask.Config.CachingJwtDecoder;
 import com.securetask.DTO.requests.AuthRequest;
 import com.securetask.DTO.requests.RefreshTokenRequest;
 import com.securetask.DTO.requests.RegisterRequest;
+import com.securetask.Entitity.auth.RefreshToken;
+import com.securetask.Repository.RefreshTokenRepository;
+import com.securetask.Service.auth.RefreshTokenSweeper;
+import com.securetask.Service.auth.TokenDigest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -32,6 +50,21 @@ public class AuthControllerMockMvcTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private RefreshTokenSweeper refreshTokenSweeper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     // ==========================================
     // HELPERS
     // ==========================================
@@ -170,6 +203,20 @@ public class AuthControllerMockMvcTest {
             .andExpect(jsonPath("$.message").value("Username already in use: testUser"));
     }
 
+    @Test
+    void shouldIssueTokenCarryingUserIdAndRole() throws Exception 
+    {
+        MvcResult result = registerExpectCreated("testUser3", "test3@test.fr");
+        String token = objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+
+        String payload = new String(Base64.getUrlDecoder().decode(token.split("\\.")[1]), StandardCharsets.UTF_8);
+        JsonNode claims = objectMapper.readTree(payload);
+
+        assertEquals("test3@test.fr", claims.get("sub").asText());
+        assertEquals(1L, claims.get("uid").asLong());
+        assertEquals("ROLE_USER", claims.get("scope").asText());
+    }
+
     // ==========================================
     // LOGIN TESTS
     // ==========================================
@@ -204,6 +251,29 @@ public class AuthControllerMockMvcTest {
             .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    void shouldThrottleRepeatedAttemptsOnOneAccount() throws Exception {
+        registerExpectCreated("testUser17", "test17@test.fr");
+        registerExpectCreated("testUser18", "test18@test.fr");
+
+        // Registration took one of the account's 5 attempts
+        for (int i = 0; i < 4; i++) {
+            assertEquals(401, login("test17@test.fr", "WrongPassword12!").getResponse().getStatus());
+        }
+
+        MvcResult throttled = login("test17@test.fr", "WrongPassword12!");
+        assertEquals(429, throttled.getResponse().getStatus());
+        int retryAfter = Integer.parseInt(throttled.getResponse().getHeader("Retry-After"));
+        assertTrue(retryAfter > 0 && retryAfter <= 12, "One attempt is refilled every 12 seconds");
+
+        // Other accounts from the same client are unaffected
+        assertEquals(200, login("test18@test.fr", "CorrectPassword12!").getResponse().getStatus());
+
+        assertEquals(1.0, meterRegistry.get("auth.throttle.requests").tag("key", "account").tag("outcome", "rejected").counter().count());
+        // 4 failed logins and the other account's login: the throttled attempt never reached the encoder
+        assertEquals(5L, meterRegistry.get("password.hashing").tag("operation", "matches").timer().count());
+    }
+
     // ==========================================
     // PROTECTED ENDPOINT TESTS
     // ==========================================
@@ -223,6 +293,48 @@ public class AuthControllerMockMvcTest {
             .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    void shouldVerifyARepeatedTokenOnlyOnce() throws Exception 
+    {
+        String token = objectMapper.readTree(
+            registerExpectCreated("testUser12", "test12@test.fr").getResponse().getContentAsString()
+        ).get("token").asText();
+
+        CachingJwtDecoder decoder = assertInstanceOf(CachingJwtDecoder.class, jwtDecoder);
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/v1/tasks/assigned")
+                    .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        }
+        assertEquals(1L, decoder.cache().stats().missCount());
+        assertEquals(2L, decoder.cache().stats().hitCount());
+
+        // A tampered copy of a cached token is still verified, and rejected
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        mockMvc.perform(get("/api/v1/tasks/assigned")
+                .header("Authorization", "Bearer " + tampered))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void shouldExposeHealthWithoutToken() throws Exception 
+    {
+        mockMvc.perform(get("/actuator/health"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldRestrictMetricsToAdmins() throws Exception 
+    {
+        String token = objectMapper.readTree(
+            registerExpectCreated("testUser11", "test11@test.fr").getResponse().getContentAsString()
+        ).get("token").asText();
+
+        mockMvc.perform(get("/actuator/metrics/cache.gets")
+                .header("Authorization", "Bearer " + token))
+            .andExpect(status().isForbidden());
+    }
+
     // ==========================================
     // REFRESH TOKEN TESTS
     // ==========================================
@@ -243,6 +355,38 @@ public class AuthControllerMockMvcTest {
             .andExpect(jsonPath("$.expiresAt").exists());
     }
 
+    @Test
+    @SuppressWarnings("null")
+    void shouldRotateRefreshTokenInASingleStatement() throws Exception 
+    {
+        String refreshToken = registerAndGetRefreshToken("testUser16", "test16@test.fr");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        MvcResult result = mockMvc.perform(post("/api/v1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.username").value("test16@test.fr"))
+            .andReturn();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        // The access token is built from the rotated row's owner
+        String token = objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+        JsonNode claims = objectMapper.readTree(new String(Base64.getUrlDecoder().decode(token.split("\\.")[1]), StandardCharsets.UTF_8));
+        assertEquals(1L, claims.get("uid").asLong());
+        assertEquals("ROLE_USER", claims.get("scope").asText());
+
+        // The old token was replaced in place: it cannot be used twice
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+            .andExpect(status().isUnauthorized());
+        assertEquals(1, refreshTokenRepository.count());
+    }
+
     @Test
     @SuppressWarnings("null")
     void shouldFailToRefreshTokenWithExpiredRefreshToken() throws Exception 
@@ -261,4 +405,39 @@ public class AuthControllerMockMvcTest {
                 .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
             .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    @SuppressWarnings("null")
+    void shouldStoreOnlyTheRefreshTokenDigest() throws Exception 
+    {
+        String refreshToken = registerAndGetRefreshToken("testUser13", "test13@test.fr");
+
+        List<RefreshToken> stored = refreshTokenRepository.findAll();
+        assertEquals(1, stored.size());
+        assertEquals(TokenDigest.sha256Hex(refreshToken), stored.get(0).getTokenHash());
+
+        // Logging in again replaces the user's token
+        login("test13@test.fr", "CorrectPassword12!");
+        assertEquals(1, refreshTokenRepository.count());
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void shouldSweepExpiredRefreshTokens() throws Exception 
+    {
+        String refreshToken = registerAndGetRefreshToken("testUser14", "test14@test.fr");
+        registerExpectCreated("testUser15", "test15@test.fr");
+
+        Thread.sleep(2100); // Wait for both short-lived test tokens to expire
+
+        assertEquals(2, refreshTokenSweeper.purgeExpiredTokens());
+        assertEquals(0, refreshTokenRepository.count());
+        assertEquals(2.0, meterRegistry.get("refresh.tokens.purged").counter().count());
+
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+            .andExpect(status().isUnauthorized())
+            .andExpect(jsonPath("$.message").value("Invalid refresh token"));
+    }
 }
@@ -0,0 +1,107 @@
+package com.securetask.Authentication;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.securetask.DTO.requests.AuthRequest;
+import com.securetask.DTO.requests.RefreshTokenRequest;
+import com.securetask.DTO.requests.RegisterRequest;
+import com.securetask.Support.StatementCounter;
+import com.securetask.Support.StatementCountingConfig;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * JDBC statement budget of every AuthController endpoint, see {@link StatementCounter}.
+ */
+@AutoConfigureMockMvc
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import(StatementCountingConfig.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class AuthEndpointStatementBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    // ==========================================
+    // HELPERS
+    // ==========================================
+
+    @SuppressWarnings("null")
+    private MvcResult postJson(String path, Object body, int expectedStatus) throws Exception
+    {
+        return mockMvc.perform(post(path)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(body)))
+            .andExpect(status().is(expectedStatus))
+            .andReturn();
+    }
+
+    private String refreshTokenOf(MvcResult result) throws Exception
+    {
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("refreshToken").asText();
+    }
+
+    // ==========================================
+    // BUDGET TESTS
+    // ==========================================
+
+    @Test
+    void shouldServeAuthEndpointsWithinBudget() throws Exception
+    {
+        RegisterRequest register = new RegisterRequest("budget", "budget@test.fr", "CorrectPassword12!", "CorrectPassword12!");
+        // Email and username uniqueness, user insert, refresh token insert
+        statementCounter.assertAtMost(4, "POST /api/v1/auth/register",
+            () -> postJson("/api/v1/auth/register", register, 201));
+
+        MvcResult[] loggedIn = new MvcResult[1];
+        // User lookup, previous refresh token delete, new refresh token insert
+        statementCounter.assertAtMost(3, "POST /api/v1/auth/login",
+            () -> loggedIn[0] = postJson("/api/v1/auth/login", new AuthRequest("budget@test.fr", "CorrectPassword12!"), 200));
+
+        // Rotated in place, see RefreshTokenRotationRepository. Login replaced the registration token
+        MvcResult[] refreshed = new MvcResult[1];
+        statementCounter.assertAtMost(1, "POST /api/v1/auth/refresh",
+            () -> refreshed[0] = postJson("/api/v1/auth/refresh", new RefreshTokenRequest(refreshTokenOf(loggedIn[0])), 200));
+
+        // The access token is verified without touching the database
+        JsonNode session = objectMapper.readTree(refreshed[0].getResponse().getContentAsString());
+        statementCounter.assertAtMost(1, "POST /api/v1/auth/logout", () -> mockMvc.perform(post("/api/v1/auth/logout")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header("Authorization", "Bearer " + session.get("token").asText())
+                .content(objectMapper.writeValueAsString(Map.of("refreshToken", session.get("refreshToken").asText()))))
+            .andExpect(status().isNoContent()));
+    }
+
+    @Test
+    void shouldRejectBadCredentialsWithinBudget() throws Exception
+    {
+        postJson("/api/v1/auth/register", new RegisterRequest("budget", "budget@test.fr", "CorrectPassword12!", "CorrectPassword12!"), 201);
+
+        statementCounter.assertAtMost(1, "POST /api/v1/auth/login (wrong password)",
+            () -> postJson("/api/v1/auth/login", new AuthRequest("budget@test.fr", "WrongPassword12!"), 401));
+
+        statementCounter.assertAtMost(1, "POST /api/v1/auth/refresh (unknown token)",
+            () -> postJson("/api/v1/auth/refresh", new RefreshTokenRequest("not-a-refresh-token"), 401));
+    }
+}
@@ -0,0 +1,102 @@
+package com.securetask.Authentication;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.securetask.DTO.requests.AuthRequest;
+import com.securetask.DTO.requests.RegisterRequest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "password-hashing.threads=1",
+    "password-hashing.queue-capacity=1",
+    "auth.throttle.enabled=false"
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class PasswordHashingBackpressureTest {
+
+    private static final int CONCURRENT_LOGINS = 30;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    // ==========================================
+    // HELPERS
+    // ==========================================
+
+    private HttpResponse<String> post(String path, Object body) throws Exception
+    {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+            .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    // ==========================================
+    // BACKPRESSURE TESTS
+    // ==========================================
+
+    @Test
+    void shouldRejectLoginsBeyondTheHashingQueueWithRetryAfter() throws Exception
+    {
+        HttpResponse<String> registered = post("/api/v1/auth/register",
+            new RegisterRequest("burst", "burst@test.com", "SecurePass123!", "SecurePass123!"));
+        assertEquals(201, registered.statusCode());
+
+        // One hashing thread and one queue slot: a burst of logins cannot all be admitted
+        List<Future<HttpResponse<String>>> responses = new ArrayList<>();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENT_LOGINS; i++) {
+                responses.add(clients.submit(() -> post("/api/v1/auth/login", new AuthRequest("burst@test.com", "SecurePass123!"))));
+            }
+        }
+
+        int succeeded = 0;
+        int rejected = 0;
+        for (Future<HttpResponse<String>> future : responses) {
+            HttpResponse<String> response = future.get();
+            if (response.statusCode() == 200) {
+                succeeded++;
+            } else {
+                assertEquals(503, response.statusCode());
+                assertEquals("2", response.headers().firstValue("Retry-After").orElse(null));
+                rejected++;
+            }
+        }
+        assertTrue(succeeded > 0, "Some logins should be served");
+        assertTrue(rejected > 0, "Logins beyond the queue should be rejected");
+
+        assertEquals(succeeded, meterRegistry.get("password.hashing").tag("operation", "matches").timer().count());
+        assertEquals(0.0, meterRegistry.get("executor.queued").tag("name", "password.hashing").gauge().value());
+    }
+}
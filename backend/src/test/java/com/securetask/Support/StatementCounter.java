@@ -0,0 +1,125 @@
+package com.securetask.Support;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts the JDBC statements executed on the application DataSource by one thread, the test thread
+ * that MockMvc serves requests on. A JDBC batch counts once: it is one round trip.
+ * Installed by {@link StatementCountingConfig}.
+ */
+public class StatementCounter {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final List<String> executed = new ArrayList<>();
+    private volatile Thread recordedThread;
+
+    @FunctionalInterface
+    public interface Call {
+        void run() throws Exception;
+    }
+
+    // Runs the call and fails if it executed more statements than the budget
+    public void assertAtMost(int budget, String endpoint, Call call) throws Exception {
+        List<String> statements = record(call);
+        assertTrue(statements.size() <= budget, () -> endpoint + " executed " + statements.size()
+            + " statements, budget is " + budget + ":\n  " + String.join("\n  ", statements));
+    }
+
+    public List<String> record(Call call) throws Exception {
+        synchronized (executed) {
+            executed.clear();
+        }
+        recordedThread = Thread.currentThread();
+        try {
+            call.run();
+        } finally {
+            recordedThread = null;
+        }
+        synchronized (executed) {
+            return List.copyOf(executed);
+        }
+    }
+
+    DataSource wrap(DataSource dataSource) {
+        return new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return countingConnection(super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return countingConnection(super.getConnection(username, password));
+            }
+        };
+    }
+
+
+    private void executed(String sql) {
+        if (Thread.currentThread() == recordedThread) {
+            synchronized (executed) {
+                executed.add(sql);
+            }
+        }
+    }
+
+    private Connection countingConnection(Connection connection) {
+        return proxy(Connection.class, connection, (method, args, result) -> {
+            if (result instanceof Statement statement) {
+                // prepareStatement/prepareCall carry their SQL, plain statements get it on execute
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return countingStatement(statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private Statement countingStatement(Statement statement, String preparedSql) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+            : statement instanceof PreparedStatement ? PreparedStatement.class
+            : Statement.class;
+
+        return proxy(type, statement, (method, args, result) -> {
+            if (EXECUTE_METHODS.contains(method.getName())) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                executed(method.getName().endsWith("Batch") ? "[batch] " + preparedSql : sql);
+            }
+            return result;
+        });
+    }
+
+    @FunctionalInterface
+    private interface AfterCall {
+        Object apply(Method method, Object[] args, Object result) throws Exception;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<? extends T> type, T target, AfterCall afterCall) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+            return afterCall.apply(method, args, result);
+        });
+    }
+}
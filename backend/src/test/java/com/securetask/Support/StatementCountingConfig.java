@@ -0,0 +1,27 @@
+package com.securetask.Support;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+// @Import it into a @SpringBootTest to get a StatementCounter on the application DataSource
+@TestConfiguration
+public class StatementCountingConfig {
+
+    @Bean
+    public static StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+
+    @Bean
+    public static BeanPostProcessor statementCountingDataSource(StatementCounter statementCounter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? statementCounter.wrap(dataSource) : bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,138 @@
+package com.securetask.Tasks;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.securetask.DAO.TaskDAO;
+import com.securetask.DTO.requests.BulkTaskStatusUpdateRequest;
+import com.securetask.DTO.requests.CreateTaskRequest;
+import com.securetask.DTO.requests.RegisterRequest;
+import com.securetask.Entitity.Task;
+import com.securetask.Service.audit.TaskAuditWriter;
+import com.securetask.Service.outbox.InMemoryTaskEventSink;
+import com.securetask.Service.outbox.OutboxMessage;
+import com.securetask.Service.outbox.TaskOutboxRelay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * A bulk status change racing another write on one of its tasks: the status snapshots are read,
+ * then another transaction changes a task before the compare-and-set runs.
+ */
+@AutoConfigureMockMvc
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class BulkStatusRaceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskOutboxRelay taskOutboxRelay;
+
+    @Autowired
+    private InMemoryTaskEventSink taskEventSink;
+
+    @Autowired
+    private TaskAuditWriter taskAuditWriter;
+
+    @MockitoSpyBean
+    private TaskDAO taskDAO;
+
+    // ==========================================
+    // HELPERS
+    // ==========================================
+
+    @SuppressWarnings("null")
+    private String registerAndGetToken(String username, String email) throws Exception {
+        RegisterRequest registerRequest = new RegisterRequest(username, email, "SecurePass123!", "SecurePass123!");
+        MvcResult result = mockMvc.perform(post("/api/v1/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return JsonPath.read(result.getResponse().getContentAsString(), "$.token");
+    }
+
+    @SuppressWarnings("null")
+    private Long createTask(String token, String title) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .content(objectMapper.writeValueAsString(new CreateTaskRequest(title, "Task Description", 1L))))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return ((Number) JsonPath.read(result.getResponse().getContentAsString(), "$.id")).longValue();
+    }
+
+    // ==========================================
+    // RACE TESTS
+    // ==========================================
+
+    @Test
+    @SuppressWarnings("null")
+    void shouldOnlyReportAndRecordTheRowsItMoved() throws Exception {
+        String token = registerAndGetToken("racer", "racer@test.com");
+        Long ownId = createTask(token, "Own Task");
+        Long racedId = createTask(token, "Raced Task");
+
+        // Cached before the bulk change, which must evict it
+        mockMvc.perform(get("/api/v1/tasks/" + ownId)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$.status").value("TODO"));
+
+        // The other writer moves the raced task to the same target status
+        doAnswer(invocation -> {
+            Object snapshots = invocation.callRealMethod();
+            jdbcTemplate.update("UPDATE tasks SET status = 'IN_PROGRESS', version = version + 1 WHERE id = ?", racedId);
+            return snapshots;
+        }).when(taskDAO).findStatusSnapshotsForUser(any(), any());
+
+        mockMvc.perform(patch("/api/v1/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .content(objectMapper.writeValueAsString(new BulkTaskStatusUpdateRequest(List.of(ownId, racedId), Task.StatusEnum.IN_PROGRESS))))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.results[0].outcome").value("UPDATED"))
+                .andExpect(jsonPath("$.results[1].outcome").value("CONCURRENTLY_MODIFIED"));
+
+        mockMvc.perform(get("/api/v1/tasks/" + ownId)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+
+        // Two creations and the one transition this request made
+        taskOutboxRelay.relayPending();
+        assertEquals(List.of("CREATED", "CREATED", "STATUS_CHANGED"),
+            taskEventSink.published().stream().map(OutboxMessage::eventType).toList());
+        assertEquals(ownId, taskEventSink.published().get(2).taskId());
+        // Consumers order by the version the change produced
+        assertEquals(1, (Integer) JsonPath.read(taskEventSink.published().get(2).payload(), "$.version"));
+        assertEquals(3, taskAuditWriter.writePending());
+    }
+}
@@ -1,26 +1,51 @@
 package com.securetask.Tasks;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.JsonPath;
+import com.securetask.DTO.requests.AuthRequest;
+import com.securetask.DTO.requests.BatchCreateTaskRequest;
+import com.securetask.DTO.requests.BulkTaskStatusUpdateRequest;
 import com.securetask.DTO.requests.CreateTaskRequest;
 import com.securetask.DTO.requests.RegisterRequest;
 import com.securetask.DTO.requests.TaskStatusUpdateRequest;
 import com.securetask.DTO.requests.UpdateTaskRequest;
 import com.securetask.Entitity.Task;
-
+import com.securetask.Entitity.User;
+import com.securetask.Repository.UserRepository;
+import com.securetask.Service.TaskCountMaintainer;
+import com.securetask.Service.TaskChangeSequencer;
+import com.securetask.Service.audit.TaskAuditWriter;
+import com.securetask.Service.outbox.InMemoryTaskEventSink;
+import com.securetask.Service.outbox.OutboxMessage;
+import com.securetask.Service.outbox.TaskOutboxRelay;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -36,6 +61,33 @@ public class TaskControllerMockMvcTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TaskChangeSequencer taskChangeSequencer;
+
+    @Autowired
+    private TaskOutboxRelay taskOutboxRelay;
+
+    @Autowired
+    private InMemoryTaskEventSink taskEventSink;
+
+    @Autowired
+    private TaskAuditWriter taskAuditWriter;
+
+    @Autowired
+    private TaskCountMaintainer taskCountMaintainer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     // -----------------
     // HELPERS
     // -----------------
@@ -51,6 +103,59 @@ public class TaskControllerMockMvcTest {
         return JsonPath.read(result.getResponse().getContentAsString(), "$.token");
     }
 
+    private String registerManagerAndGetToken(String username, String email, String password) throws Exception {
+        return registerWithRoleAndGetToken(username, email, password, User.Role.MANAGER);
+    }
+
+    // The role is read from the token: log in again once it is set
+    @SuppressWarnings("null")
+    private String registerWithRoleAndGetToken(String username, String email, String password, User.Role role) throws Exception {
+        registerAndGetToken(username, email, password);
+        User user = userRepository.findByEmail(email).orElseThrow();
+        user.setRole(role);
+        userRepository.save(user);
+
+        MvcResult result = mockMvc.perform(post("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new AuthRequest(email, password))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return JsonPath.read(result.getResponse().getContentAsString(), "$.token");
+    }
+
+    @SuppressWarnings("null")
+    private MvcResult syncChanges(String token, String cursor) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/v1/tasks/changes")
+                .header("Authorization", "Bearer " + token);
+        if (cursor != null) {
+            request.param("cursor", cursor);
+        }
+
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andReturn();
+    }
+
+    @SuppressWarnings("null")
+    private MvcResult subscribeToEvents(String token) throws Exception {
+        return mockMvc.perform(get("/api/v1/tasks/events")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    // Events are written after commit, on the broadcaster's delivery threads
+    private void awaitEvent(MvcResult stream, String fragment) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!stream.getResponse().getContentAsString().contains(fragment)) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("No event containing " + fragment + " in:\n" + stream.getResponse().getContentAsString());
+            }
+            Thread.sleep(20);
+        }
+    }
+
     @SuppressWarnings("null")
     private Long createTaskAndGetId(String token, String title, String description, Long assigneeId) throws Exception {
         CreateTaskRequest request = new CreateTaskRequest(title, description, assigneeId);
@@ -152,6 +257,72 @@ public class TaskControllerMockMvcTest {
                 .andExpect(jsonPath("$.assigneeId").doesNotExist());
     }
 
+    // ==========================================
+    // BATCH CREATE TESTS
+    // ==========================================
+
+    @Test
+    @SuppressWarnings("null")
+    void shouldCreateTaskBatch() throws Exception {
+        String token = registerAndGetToken("user4", "user4@test.com", "SecurePass123!");
+
+        BatchCreateTaskRequest request = new BatchCreateTaskRequest(List.of(
+            new CreateTaskRequest("Batch Task 1", "Description", 1L),
+            new CreateTaskRequest("Batch Task 2", null, null)));
+
+        mockMvc.perform(post("/api/v1/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created.size()").value(2))
+                .andExpect(jsonPath("$.created[0].title").value("Batch Task 1"))
+                .andExpect(jsonPath("$.created[0].assigneeId").value(1))
+                .andExpect(jsonPath("$.created[1].createdByUserId").value(1))
+                .andExpect(jsonPath("$.errors.size()").value(0));
+
+        mockMvc.perform(get("/api/v1/tasks")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.size()").value(2));
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void shouldReportInvalidBatchItemsWithoutFailingTheBatch() throws Exception {
+        String token = registerAndGetToken("user5", "user5@test.com", "SecurePass123!");
+
+        BatchCreateTaskRequest request = new BatchCreateTaskRequest(List.of(
+            new CreateTaskRequest("Valid Task", "Description", null),
+            new CreateTaskRequest("", "Blank title", null),
+            new CreateTaskRequest("Unknown assignee", "Description", 999L)));
+
+        mockMvc.perform(post("/api/v1/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.created.size()").value(1))
+                .andExpect(jsonPath("$.created[0].title").value("Valid Task"))
+                .andExpect(jsonPath("$.errors.size()").value(2))
+                .andExpect(jsonPath("$.errors[0].index").value(1))
+                .andExpect(jsonPath("$.errors[0].message").value("title: Title is required"))
+                .andExpect(jsonPath("$.errors[1].index").value(2))
+                .andExpect(jsonPath("$.errors[1].message").value("Assignee not found: 999"));
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void shouldRejectEmptyBatch() throws Exception {
+        String token = registerAndGetToken("user5", "user5@test.com", "SecurePass123!");
+
+        mockMvc.perform(post("/api/v1/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .content(objectMapper.writeValueAsString(new BatchCreateTaskRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+    }
+
     // ==========================================
     // GET TASK TESTS
     // ==========================================
@@ -190,6 +361,59 @@ public class TaskControllerMockMvcTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @SuppressWarnings("null")
+    void shouldServeRepeatedTaskReadsFromSecondLevelCache() throws Exception {
+        String token = registerAndGetToken("user16", "user16@test.com", "SecurePass123!");
+        Long taskId = createTaskAndGetId(token, "Hot Task", "Task Description", null);
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/v1/tasks/" + taskId)
+                    .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.title").value("Hot Task"))
+                    .andExpect(jsonPath("$.createdByUserId").value(1));
+        }
+
+        CacheRegionStatistics tasksRegion = entityManagerFactory.unwrap(SessionFactory.class)
+            .getStatistics()
+            .getCacheRegionStatistics("tasks");
+        assertTrue(tasksRegion.getHitCount() >= 3);
+    }
+
+    @Test
+    void shouldOnlyEvictTheWrittenTasksFromSecondLevelCache() throws Exception {
+        String token = registerAndGetToken("user35", "user35@test.com", "SecurePass123!");
+        Long hotId = createTaskAndGetId(token, "Hot Task", "Task Description", null);
+        Long deletedId = createTaskAndGetId(token, "Deleted Task", "Task Description", null);
+        Long movedId = createTaskAndGetId(token, "Moved Task", "Task Description", null);
+        for (Long id : List.of(hotId, deletedId, movedId)) {
+            mockMvc.perform(get("/api/v1/tasks/" + id)
+                    .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(delete("/api/v1/tasks/" + deletedId)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(patch("/api/v1/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .content(objectMapper.writeValueAsString(new BulkTaskStatusUpdateRequest(List.of(movedId), Task.StatusEnum.IN_PROGRESS))))
+                .andExpect(status().isOk());
+
+        assertTrue(entityManagerFactory.getCache().contains(Task.class, hotId));
+        assertFalse(entityManagerFactory.getCache().contains(Task.class, deletedId));
+        assertFalse(entityManagerFactory.getCache().contains(Task.class, movedId));
+
+        mockMvc.perform(get("/api/v1/tasks/" + deletedId)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/tasks/" + movedId)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+    }
+
     @Test
     void shouldGetAssignedTaskCreatedByOther() throws Exception 
     {
@@ -201,9 +425,9 @@ public class TaskControllerMockMvcTest {
         mockMvc.perform(get("/api/v1/tasks/assigned")
                 .header("Authorization", "Bearer " + user2Token))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(taskId))
-                .andExpect(jsonPath("$[0].title").value("User1 Task"))
-                .andExpect(jsonPath("$[0].assigneeId").value(2));
+                .andExpect(jsonPath("$.items[0].id").value(taskId))
+                .andExpect(jsonPath("$.items[0].title").value("User1 Task"))
+                .andExpect(jsonPath("$.items[0].assigneeId").value(2));
     }
 
 
@@ -231,8 +455,10 @@ public class TaskControllerMockMvcTest {
         mockMvc.perform(get("/api/v1/tasks")
                 .header("Authorization", "Bearer " + user1Token))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].createdByUserId").value(1))
-                .andExpect(jsonPath("$.size()").value(2));
+                .andExpect(jsonPath("$.items[0].createdByUserId").value(1))
+                .andExpect(jsonPath("$.items.size()").value(2))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
     }
 
 
@@ -249,10 +475,166 @@ public class TaskControllerMockMvcTest {
         mockMvc.perform(get("/api/v1/tasks/assigned")
                 .header("Authorization", "Bearer " + user2Token))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.size()").value(1));
+                .andExpect(jsonPath("$.items.size()").value(1));
+    }
+
+    @Test
+    void shouldPaginateTasksWithCursor() throws Exception
+    {
+        String token = registerAndGetToken("user1", "user1@test.com", "SecurePass123!");
+        Long firstId = createTaskAndGetId(token, "Task 1", "Description", null);
+        Long secondId = createTaskAndGetId(token, "Task 2", "Description", null);
+        Long thirdId = createTaskAndGetId(token, "Task 3", "Description", null);
+
+        MvcResult firstPage = mockMvc.perform(get("/api/v1/tasks")
+                .param("size", "2")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.size()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(firstId))
+                .andExpect(jsonPath("$.items[1].id").value(secondId))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn();
+
+        String cursor = JsonPath.read(firstPage.getResponse().getContentAsString(), "$.nextCursor");
+
+        mockMvc.perform(get("/api/v1/tasks")
+                .param("size", "2")
+                .param("cursor", cursor)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.size()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(thirdId))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() throws Exception
+    {
+        String token = registerAndGetToken("user1", "user1@test.com", "SecurePass123!");
+
+        mockMvc.perform(get("/api/v1/tasks")
+                .param("cursor", "not-a-cursor")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
     }
         
 
+    // ==========================================
+    // FILTER TESTS
+    // ==========================================
+
+    @Test
+    @SuppressWarnings("null")
+    void shouldFilterAccessibleTasksByCombinedCriteria() throws Exception
+    {
+        String user1Token = registerAndGetToken("user20", "user20@test.com", "SecurePass123!");
+        String user2Token = registerAndGetToken("user21", "user21@test.com", "SecurePass123!");
+
+        Long urgentTaskId = createTaskAndGetId(user1Token, "Urgent Task", "Task Description", null);
+        createTaskAndGetId(user1Token, "Backlog Task", "Task Description", null);
+        Long assignedTaskId = createTaskAndGetId(user2Token, "Assigned to user20", "Task Description", 1L);
+        createTaskAndGetId(user2Token, "Private Task", "Task Description", null);
+
+        UpdateTaskRequest request = new UpdateTaskRequest(
+                "Urgent Task", "Task Description", Task.StatusEnum.IN_PROGRESS,
+                Task.PriorityEnum.HIGH, LocalDateTime.of(2030, 1, 10, 12, 0), null);
+
+        mockMvc.perform(put("/api/v1/tasks/" + urgentTaskId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + user1Token)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/tasks/filter")
+                .param("status", "IN_PROGRESS")
+                .param("priority", "HIGH")
+                .param("dueFrom", "2030-01-01T00:00:00")
+                .param("dueTo", "2030-02-01T00:00:00")
+                .header("Authorization", "Bearer " + user1Token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.size()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(urgentTaskId));
+
+        mockMvc.perform(get("/api/v1/tasks/filter")
+                .param("createdById", "2")
+                .header("Authorization", "Bearer " + user1Token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.size()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(assignedTaskId));
+
+        mockMvc.perform(get("/api/v1/tasks/filter")
+                .param("status", "TODO")
+                .header("Authorization", "Bearer " + user1Token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.size()").value(2))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void shouldRejectInvertedDueDateRange() throws Exception
+    {
+        String token = registerAndGetToken("user22", "user22@test.com", "SecurePass123!");
+
+        mockMvc.perform(get("/api/v1/tasks/filter")
+                .param("dueFrom", "2030-02-01T00:00:00")
+                .param("dueTo", "2030-01-01T00:00:00")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    // ==========================================
+    // SEARCH TESTS
+    // ==========================================
+
+    @Test
+    @SuppressWarnings("null")
+    void shouldSearchAccessibleTasksRankedByRelevance() throws Exception
+    {
+        String user1Token = registerAndGetToken("user17", "user17@test.com", "SecurePass123!");
+        String user2Token = registerAndGetToken("user18", "user18@test.com", "SecurePass123!");
+
+        Long descriptionMatchId = createTaskAndGetId(user1Token, "Write release notes", "Mention the Login fix", null);
+        Long titleMatchId = createTaskAndGetId(user1Token, "Fix login redirect", "Users land on a blank page", null);
+        createTaskAndGetId(user1Token, "Update dependencies", "Nothing related", null);
+        createTaskAndGetId(user2Token, "Login audit", "Not visible to user17", null);
+
+        MvcResult firstPage = mockMvc.perform(get("/api/v1/tasks/search")
+                .param("q", "login")
+                .param("size", "1")
+                .header("Authorization", "Bearer " + user1Token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.size()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(titleMatchId))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn();
+
+        String cursor = JsonPath.read(firstPage.getResponse().getContentAsString(), "$.nextCursor");
+
+        mockMvc.perform(get("/api/v1/tasks/search")
+                .param("q", "login")
+                .param("size", "1")
+                .param("cursor", cursor)
+                .header("Authorization", "Bearer " + user1Token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.size()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(descriptionMatchId))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void shouldRejectBlankSearchQuery() throws Exception
+    {
+        String token = registerAndGetToken("user19", "user19@test.com", "SecurePass123!");
+
+        mockMvc.perform(get("/api/v1/tasks/search")
+                .param("q", "   ")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
     // ==========================================
     // UPDATE TASK TESTS
     // ==========================================
@@ -337,6 +719,70 @@ public class TaskControllerMockMvcTest {
                 .andExpect(jsonPath("$.message").exists());
     }
 
+    @Test
+    @SuppressWarnings("null")
+    void shouldTransitionStatusOfTaskBatch() throws Exception {
+        String token = registerAndGetToken("user13", "user13@test.com", "SecurePass123!");
+        Long firstTaskId = createTaskAndGetId(token, "Status Task 1", "Task Description", null);
+        Long secondTaskId = createTaskAndGetId(token, "Status Task 2", "Task Description", null);
+
+        BulkTaskStatusUpdateRequest request = new BulkTaskStatusUpdateRequest(
+            List.of(firstTaskId, secondTaskId), Task.StatusEnum.IN_PROGRESS);
+
+        mockMvc.perform(patch("/api/v1/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.size()").value(2))
+                .andExpect(jsonPath("$.results[0].taskId").value(firstTaskId))
+                .andExpect(jsonPath("$.results[0].outcome").value("UPDATED"))
+                .andExpect(jsonPath("$.results[1].outcome").value("UPDATED"));
+
+        mockMvc.perform(get("/api/v1/tasks/" + secondTaskId)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void shouldReportOutcomePerTaskInStatusBatch() throws Exception {
+        String user1Token = registerAndGetToken("user14", "user14@test.com", "SecurePass123!");
+        String user2Token = registerAndGetToken("user15", "user15@test.com", "SecurePass123!");
+
+        Long movableTaskId = createTaskAndGetId(user1Token, "Movable Task", "Task Description", null);
+        Long doneTaskId = createTaskAndGetId(user1Token, "Done Task", "Task Description", null);
+        Long otherUserTaskId = createTaskAndGetId(user2Token, "User2 Task", "Task Description", null);
+
+        for (Task.StatusEnum status : List.of(Task.StatusEnum.IN_PROGRESS, Task.StatusEnum.DONE)) {
+            mockMvc.perform(patch("/api/v1/tasks/" + doneTaskId + "/status")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header("Authorization", "Bearer " + user1Token)
+                    .content(objectMapper.writeValueAsString(new TaskStatusUpdateRequest(status))))
+                    .andExpect(status().isOk());
+        }
+
+        BulkTaskStatusUpdateRequest request = new BulkTaskStatusUpdateRequest(
+            List.of(movableTaskId, doneTaskId, otherUserTaskId, 999L), Task.StatusEnum.IN_PROGRESS);
+
+        mockMvc.perform(patch("/api/v1/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + user1Token)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.results[0].outcome").value("UPDATED"))
+                .andExpect(jsonPath("$.results[1].outcome").value("INVALID_TRANSITION"))
+                .andExpect(jsonPath("$.results[2].outcome").value("FORBIDDEN"))
+                .andExpect(jsonPath("$.results[3].taskId").value(999))
+                .andExpect(jsonPath("$.results[3].outcome").value("NOT_FOUND"));
+
+        mockMvc.perform(get("/api/v1/tasks/" + otherUserTaskId)
+                .header("Authorization", "Bearer " + user2Token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("TODO"));
+    }
+
     // ==========================================
     // DELETE TASK TESTS
     // ==========================================
@@ -356,6 +802,15 @@ public class TaskControllerMockMvcTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void shouldReturnNotFoundWhenDeletingNonExistentTask() throws Exception {
+        String token = registerAndGetToken("user16", "user16@test.com", "SecurePass123!");
+
+        mockMvc.perform(delete("/api/v1/tasks/99999")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void shouldDenyDeleteOnOtherUserTask() throws Exception {
         String user1Token = registerAndGetToken("user14", "user14@test.com", "SecurePass123!");
@@ -366,4 +821,603 @@ public class TaskControllerMockMvcTest {
                 .header("Authorization", "Bearer " + user2Token))
                 .andExpect(status().isForbidden());
     }
+
+    // ==========================================
+    // CONDITIONAL REQUEST TESTS
+    // ==========================================
+
+    @Test
+    @SuppressWarnings("null")
+    void shouldAnswerNotModifiedForAnUnchangedTask() throws Exception {
+        String token = registerAndGetToken("user19", "user19@test.com", "SecurePass123!");
+        Long taskId = createTaskAndGetId(token, "Polled Task", "Task Description", null);
+
+        String etag = mockMvc.perform(get("/api/v1/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andExpect(jsonPath("$.version").value(0))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token)
+                .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(patch("/api/v1/tasks/" + taskId + "/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .content(objectMapper.writeValueAsString(new TaskStatusUpdateRequest(Task.StatusEnum.IN_PROGRESS))))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""));
+
+        mockMvc.perform(get("/api/v1/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token)
+                .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void shouldRejectUpdatesToAStaleVersion() throws Exception {
+        String token = registerAndGetToken("user20", "user20@test.com", "SecurePass123!");
+        Long taskId = createTaskAndGetId(token, "Shared Task", "Task Description", null);
+
+        UpdateTaskRequest request = new UpdateTaskRequest("Renamed", null, Task.StatusEnum.IN_PROGRESS, Task.PriorityEnum.LOW, null, null);
+
+        mockMvc.perform(put("/api/v1/tasks/" + taskId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .header("If-Match", "\"0\"")
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.version").value(1));
+
+        // A second client still holding version 0
+        mockMvc.perform(patch("/api/v1/tasks/" + taskId + "/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .header("If-Match", "\"0\"")
+                .content(objectMapper.writeValueAsString(new TaskStatusUpdateRequest(Task.StatusEnum.DONE))))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value(412));
+
+        mockMvc.perform(put("/api/v1/tasks/" + taskId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .header("If-Match", "W/\"1\"")
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/api/v1/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.version").value(1));
+
+        // Several tags: applies when any of them is the current version
+        mockMvc.perform(patch("/api/v1/tasks/" + taskId + "/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .header("If-Match", "\"0\", \"1\"")
+                .content(objectMapper.writeValueAsString(new TaskStatusUpdateRequest(Task.StatusEnum.DONE))))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2\""));
+    }
+
+    @Test
+    void shouldReturnNotFoundForAConditionalUpdateOfANonExistentTask() throws Exception {
+        String token = registerAndGetToken("user40", "user40@test.com", "SecurePass123!");
+
+        // Existence is checked before the precondition, whatever the tag
+        for (String ifMatch : List.of("\"0\"", "W/\"0\"")) {
+            mockMvc.perform(patch("/api/v1/tasks/99999/status")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header("Authorization", "Bearer " + token)
+                    .header("If-Match", ifMatch)
+                    .content(objectMapper.writeValueAsString(new TaskStatusUpdateRequest(Task.StatusEnum.DONE))))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void shouldAnswerNotModifiedForAnUnchangedTaskList() throws Exception {
+        String token = registerAndGetToken("user21", "user21@test.com", "SecurePass123!");
+        Long taskId = createTaskAndGetId(token, "Listed Task", "Task Description", null);
+
+        String etag = mockMvc.perform(get("/api/v1/tasks")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertTrue(etag.startsWith("W/\""), "Weak list ETag: " + etag);
+
+        mockMvc.perform(get("/api/v1/tasks")
+                .header("Authorization", "Bearer " + token)
+                .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+
+        // Deleting changes the count, even though no remaining task was updated
+        mockMvc.perform(delete("/api/v1/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/tasks")
+                .header("Authorization", "Bearer " + token)
+                .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void shouldScopeOwnListETagsToTheCallersRowsWhateverTheRole() throws Exception {
+        String otherToken = registerAndGetToken("user36", "user36@test.com", "SecurePass123!");
+        String managerToken = registerManagerAndGetToken("user37", "user37@test.com", "SecurePass123!");
+        createTaskAndGetId(managerToken, "Manager Task", "Task Description", 2L);
+
+        String created = mockMvc.perform(get("/api/v1/tasks")
+                .header("Authorization", "Bearer " + managerToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        String assigned = mockMvc.perform(get("/api/v1/tasks/assigned")
+                .header("Authorization", "Bearer " + managerToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // A manager can access this task, but it is in neither of their own lists
+        createTaskAndGetId(otherToken, "Other Task", "Task Description", null);
+
+        mockMvc.perform(get("/api/v1/tasks")
+                .header("Authorization", "Bearer " + managerToken)
+                .header("If-None-Match", created))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/v1/tasks/assigned")
+                .header("Authorization", "Bearer " + managerToken)
+                .header("If-None-Match", assigned))
+                .andExpect(status().isNotModified());
+    }
+
+    // ==========================================
+    // SYNC TESTS
+    // ==========================================
+
+    @Test
+    @SuppressWarnings("null")
+    void shouldSyncChangesAndDeletionsSinceCursor() throws Exception {
+        String ownerToken = registerAndGetToken("user22", "user22@test.com", "SecurePass123!");
+        String assigneeToken = registerAndGetToken("user23", "user23@test.com", "SecurePass123!");
+        registerAndGetToken("user24", "user24@test.com", "SecurePass123!");
+
+        Long sharedTaskId = createTaskAndGetId(ownerToken, "Shared Task", "Task Description", 2L);
+        Long ownTaskId = createTaskAndGetId(ownerToken, "Own Task", "Task Description", null);
+
+        // Nothing is visible before the sequencer numbers the writes
+        mockMvc.perform(get("/api/v1/tasks/changes")
+                .header("Authorization", "Bearer " + assigneeToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed").isEmpty())
+                .andExpect(jsonPath("$.hasMore").value(false));
+
+        taskChangeSequencer.sequencePendingChanges();
+
+        // Full sync, one entry per page
+        MvcResult first = mockMvc.perform(get("/api/v1/tasks/changes")
+                .param("size", "1")
+                .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[0].id").value(sharedTaskId))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn();
+        String ownerCursor = JsonPath.read(first.getResponse().getContentAsString(), "$.nextCursor");
+
+        MvcResult second = syncChanges(ownerToken, ownerCursor);
+        assertEquals(List.of(ownTaskId.intValue()), JsonPath.read(second.getResponse().getContentAsString(), "$.changed[*].id"));
+        ownerCursor = JsonPath.read(second.getResponse().getContentAsString(), "$.nextCursor");
+
+        MvcResult assigneeSync = syncChanges(assigneeToken, null);
+        assertEquals(List.of(sharedTaskId.intValue()), JsonPath.read(assigneeSync.getResponse().getContentAsString(), "$.changed[*].id"));
+        String assigneeCursor = JsonPath.read(assigneeSync.getResponse().getContentAsString(), "$.nextCursor");
+
+        // No change: same cursor back
+        MvcResult unchanged = syncChanges(ownerToken, ownerCursor);
+        assertEquals(ownerCursor, JsonPath.read(unchanged.getResponse().getContentAsString(), "$.nextCursor"));
+        assertEquals(List.of(), JsonPath.read(unchanged.getResponse().getContentAsString(), "$.changed"));
+
+        // Reassigned to the third user: deleted for the previous assignee, changed for the creator
+        mockMvc.perform(put("/api/v1/tasks/" + sharedTaskId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + ownerToken)
+                .content(objectMapper.writeValueAsString(
+                    new UpdateTaskRequest("Shared Task", null, Task.StatusEnum.IN_PROGRESS, Task.PriorityEnum.LOW, null, 3L))))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/v1/tasks/" + ownTaskId)
+                .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isNoContent());
+        taskChangeSequencer.sequencePendingChanges();
+
+        mockMvc.perform(get("/api/v1/tasks/changes")
+                .param("cursor", assigneeCursor)
+                .header("Authorization", "Bearer " + assigneeToken))
+                .andExpect(jsonPath("$.changed").isEmpty())
+                .andExpect(jsonPath("$.deletedIds[0]").value(sharedTaskId));
+
+        mockMvc.perform(get("/api/v1/tasks/changes")
+                .param("cursor", ownerCursor)
+                .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(jsonPath("$.changed[0].id").value(sharedTaskId))
+                .andExpect(jsonPath("$.changed[0].assigneeId").value(3))
+                .andExpect(jsonPath("$.changed[0].status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.deletedIds[0]").value(ownTaskId))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void shouldRequireFullSyncOnceDeletionsArePurged() throws Exception {
+        String token = registerAndGetToken("user25", "user25@test.com", "SecurePass123!");
+        Long keptTaskId = createTaskAndGetId(token, "Kept Task", "Task Description", null);
+        Long otherKeptTaskId = createTaskAndGetId(token, "Other Kept Task", "Task Description", null);
+        Long deletedTaskId = createTaskAndGetId(token, "Deleted Task", "Task Description", null);
+        taskChangeSequencer.sequencePendingChanges();
+
+        String cursor = JsonPath.read(syncChanges(token, null).getResponse().getContentAsString(), "$.nextCursor");
+
+        mockMvc.perform(delete("/api/v1/tasks/" + deletedTaskId)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+        taskChangeSequencer.sequencePendingChanges();
+
+        // Every tombstone is past retention
+        ReflectionTestUtils.setField(taskChangeSequencer, "tombstoneRetention", Duration.ofMinutes(-1));
+        assertEquals(1, taskChangeSequencer.purgeExpiredTombstones());
+
+        mockMvc.perform(get("/api/v1/tasks/changes")
+                .param("cursor", cursor)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.status").value(410));
+
+        mockMvc.perform(get("/api/v1/tasks/changes")
+                .param("cursor", "not-a-cursor")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+
+        // Full sync, one entry per page: both pages sit below the purge watermark
+        MvcResult firstPage = mockMvc.perform(get("/api/v1/tasks/changes")
+                .param("size", "1")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[0].id").value(keptTaskId))
+                .andExpect(jsonPath("$.deletedIds").isEmpty())
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn();
+        cursor = JsonPath.read(firstPage.getResponse().getContentAsString(), "$.nextCursor");
+
+        MvcResult lastPage = syncChanges(token, cursor);
+        assertEquals(List.of(otherKeptTaskId.intValue()), JsonPath.read(lastPage.getResponse().getContentAsString(), "$.changed[*].id"));
+        assertEquals(false, JsonPath.read(lastPage.getResponse().getContentAsString(), "$.hasMore"));
+        cursor = JsonPath.read(lastPage.getResponse().getContentAsString(), "$.nextCursor");
+
+        // The cursor the full sync ended on resumes normally
+        MvcResult resumed = syncChanges(token, cursor);
+        assertEquals(List.of(), JsonPath.read(resumed.getResponse().getContentAsString(), "$.changed"));
+        assertEquals(List.of(), JsonPath.read(resumed.getResponse().getContentAsString(), "$.deletedIds"));
+    }
+
+    // ==========================================
+    // EVENT STREAM TESTS
+    // ==========================================
+
+    @Test
+    @SuppressWarnings("null")
+    void shouldPushTaskEventsToCreatorAndAssignees() throws Exception {
+        String ownerToken = registerAndGetToken("user26", "user26@test.com", "SecurePass123!");
+        String firstAssigneeToken = registerAndGetToken("user27", "user27@test.com", "SecurePass123!");
+        String secondAssigneeToken = registerAndGetToken("user28", "user28@test.com", "SecurePass123!");
+
+        MvcResult firstStream = subscribeToEvents(firstAssigneeToken);
+        MvcResult secondStream = subscribeToEvents(secondAssigneeToken);
+        assertEquals(2.0, meterRegistry.get("tasks.events.subscribers").gauge().value());
+
+        Long taskId = createTaskAndGetId(ownerToken, "Pushed Task", "Task Description", 2L);
+        awaitEvent(firstStream, "\"type\":\"CREATED\",\"taskId\":" + taskId);
+
+        // Reassigned: gone for the first assignee, updated for the second
+        mockMvc.perform(put("/api/v1/tasks/" + taskId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + ownerToken)
+                .content(objectMapper.writeValueAsString(
+                    new UpdateTaskRequest("Pushed Task", null, Task.StatusEnum.IN_PROGRESS, Task.PriorityEnum.LOW, null, 3L))))
+                .andExpect(status().isOk());
+        awaitEvent(firstStream, "\"type\":\"DELETED\",\"taskId\":" + taskId);
+        awaitEvent(secondStream, "\"type\":\"UPDATED\",\"taskId\":" + taskId);
+
+        mockMvc.perform(delete("/api/v1/tasks/" + taskId)
+                .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isNoContent());
+        awaitEvent(secondStream, "\"type\":\"DELETED\",\"taskId\":" + taskId);
+
+        // The second assignee was never told about the creation
+        assertFalse(secondStream.getResponse().getContentAsString().contains("CREATED"));
+    }
+
+    // ==========================================
+    // OUTBOX TESTS
+    // ==========================================
+
+    @Test
+    @SuppressWarnings("null")
+    void shouldRelayCommittedTaskEventsFromTheOutbox() throws Exception {
+        String token = registerAndGetToken("user29", "user29@test.com", "SecurePass123!");
+        Long taskId = createTaskAndGetId(token, "Integrated Task", "Task Description", null);
+
+        mockMvc.perform(patch("/api/v1/tasks/" + taskId + "/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .content(objectMapper.writeValueAsString(new TaskStatusUpdateRequest(Task.StatusEnum.IN_PROGRESS))))
+                .andExpect(status().isOk());
+
+        // Rolled back: invalid transition, nothing recorded
+        mockMvc.perform(patch("/api/v1/tasks/" + taskId + "/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .content(objectMapper.writeValueAsString(new TaskStatusUpdateRequest(Task.StatusEnum.TODO))))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(delete("/api/v1/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        assertEquals(3, taskOutboxRelay.relayPending());
+        assertEquals(0, taskOutboxRelay.relayPending());
+
+        List<OutboxMessage> published = taskEventSink.published();
+        assertEquals(List.of("CREATED", "STATUS_CHANGED", "DELETED"), published.stream().map(OutboxMessage::eventType).toList());
+        assertTrue(published.stream().allMatch(message -> message.taskId().equals(taskId)));
+        assertEquals("IN_PROGRESS", JsonPath.read(published.get(1).payload(), "$.task.status"));
+
+        assertEquals(3.0, meterRegistry.get("tasks.outbox.relayed").counter().count());
+        assertEquals(0.0, meterRegistry.get("tasks.outbox.lag").gauge().value());
+    }
+
+    // ==========================================
+    // HISTORY TESTS
+    // ==========================================
+
+    @Test
+    @SuppressWarnings("null")
+    void shouldPageTaskHistoryNewestFirst() throws Exception {
+        String token = registerAndGetToken("user30", "user30@test.com", "SecurePass123!");
+        String otherToken = registerAndGetToken("user31", "user31@test.com", "SecurePass123!");
+        Long taskId = createTaskAndGetId(token, "Audited Task", "Task Description", null);
+
+        UpdateTaskRequest update = new UpdateTaskRequest("Renamed Task", "Task Description", Task.StatusEnum.IN_PROGRESS, Task.PriorityEnum.HIGH, null, null);
+        mockMvc.perform(put("/api/v1/tasks/" + taskId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+        mockMvc.perform(patch("/api/v1/tasks/" + taskId + "/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .content(objectMapper.writeValueAsString(new TaskStatusUpdateRequest(Task.StatusEnum.DONE))))
+                .andExpect(status().isOk());
+
+        // Written off the request path
+        mockMvc.perform(get("/api/v1/tasks/" + taskId + "/history")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty());
+        assertEquals(3, taskAuditWriter.writePending());
+
+        MvcResult first = mockMvc.perform(get("/api/v1/tasks/" + taskId + "/history")
+                .param("size", "2")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].action").value("STATUS_CHANGED"))
+                .andExpect(jsonPath("$.items[0].changedByUserId").value(1))
+                .andExpect(jsonPath("$.items[0].changes[0].field").value("status"))
+                .andExpect(jsonPath("$.items[0].changes[0].from").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.items[0].changes[0].to").value("DONE"))
+                .andExpect(jsonPath("$.items[1].action").value("UPDATED"))
+                .andExpect(jsonPath("$.items[1].changes.length()").value(3))
+                .andExpect(jsonPath("$.items[1].changes[0].from").value("Audited Task"))
+                .andExpect(jsonPath("$.items[1].changes[0].to").value("Renamed Task"))
+                .andExpect(jsonPath("$.items[1].changes[1].field").value("status"))
+                .andExpect(jsonPath("$.items[1].changes[2].field").value("priority"))
+                .andExpect(jsonPath("$.items[1].changes[2].to").value("HIGH"))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn();
+
+        String cursor = JsonPath.read(first.getResponse().getContentAsString(), "$.nextCursor");
+        mockMvc.perform(get("/api/v1/tasks/" + taskId + "/history")
+                .param("size", "2")
+                .param("cursor", cursor)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].action").value("CREATED"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+
+        // Same access rule as the task itself
+        mockMvc.perform(get("/api/v1/tasks/" + taskId + "/history")
+                .header("Authorization", "Bearer " + otherToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/v1/tasks/99999/history")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+
+        // History outlives the task, for its audience only
+        mockMvc.perform(delete("/api/v1/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/v1/tasks/" + taskId + "/history")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(3));
+        mockMvc.perform(get("/api/v1/tasks/" + taskId + "/history")
+                .header("Authorization", "Bearer " + otherToken))
+                .andExpect(status().isNotFound());
+
+        assertEquals(3.0, meterRegistry.get("tasks.audit.written").counter().count());
+    }
+
+    // ==========================================
+    // MANAGER TESTS
+    // ==========================================
+
+    @Test
+    @SuppressWarnings("null")
+    void shouldMaintainPerUserTaskCounters() throws Exception {
+        String creatorToken = registerAndGetToken("user32", "user32@test.com", "SecurePass123!");
+        registerAndGetToken("user33", "user33@test.com", "SecurePass123!");
+        String managerToken = registerManagerAndGetToken("user34", "user34@test.com", "SecurePass123!");
+
+        Long movedId = createTaskAndGetId(creatorToken, "Moved Task", "Task Description", 2L);
+        Long deletedId = createTaskAndGetId(creatorToken, "Deleted Task", "Task Description", 2L);
+        Long reassignedId = createTaskAndGetId(creatorToken, "Reassigned Task", "Task Description", 2L);
+        mockMvc.perform(post("/api/v1/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + creatorToken)
+                .content(objectMapper.writeValueAsString(new BatchCreateTaskRequest(List.of(
+                    new CreateTaskRequest("Batch Task", null, 2L),
+                    new CreateTaskRequest("Unassigned Task", null, null))))))
+                .andExpect(status().isCreated());
+
+        // Status and priority, then status alone, then in bulk, then reassignment
+        mockMvc.perform(put("/api/v1/tasks/" + movedId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + creatorToken)
+                .content(objectMapper.writeValueAsString(new UpdateTaskRequest(
+                    "Moved Task", "Task Description", Task.StatusEnum.IN_PROGRESS, Task.PriorityEnum.HIGH, null, null))))
+                .andExpect(status().isOk());
+        mockMvc.perform(patch("/api/v1/tasks/" + movedId + "/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + creatorToken)
+                .content(objectMapper.writeValueAsString(new TaskStatusUpdateRequest(Task.StatusEnum.DONE))))
+                .andExpect(status().isOk());
+        mockMvc.perform(patch("/api/v1/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + creatorToken)
+                .content(objectMapper.writeValueAsString(new BulkTaskStatusUpdateRequest(List.of(deletedId), Task.StatusEnum.IN_PROGRESS))))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/api/v1/tasks/" + reassignedId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + creatorToken)
+                .content(objectMapper.writeValueAsString(new UpdateTaskRequest(
+                    "Reassigned Task", "Task Description", Task.StatusEnum.IN_PROGRESS, null, null, 1L))))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/v1/tasks/" + deletedId)
+                .header("Authorization", "Bearer " + creatorToken))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/manager/users/2/task-summary")
+                .header("Authorization", "Bearer " + managerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(2))
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.byStatus.TODO").value(1))
+                .andExpect(jsonPath("$.byStatus.IN_PROGRESS").value(0))
+                .andExpect(jsonPath("$.byStatus.DONE").value(1))
+                .andExpect(jsonPath("$.counts[?(@.status == 'DONE')].priority").value("HIGH"));
+
+        // Folding the deltas changes no count
+        assertTrue(taskCountMaintainer.compactDeltas() > 0);
+        assertEquals(0, taskCountMaintainer.reconcileWithTasks());
+        mockMvc.perform(get("/api/v1/manager/task-summary")
+                .header("Authorization", "Bearer " + managerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].userId").value(1))
+                .andExpect(jsonPath("$[0].byStatus.IN_PROGRESS").value(1))
+                .andExpect(jsonPath("$[1].userId").value(2))
+                .andExpect(jsonPath("$[1].total").value(2));
+
+        // A write behind the service's back is corrected by the reconciliation
+        jdbcTemplate.update("UPDATE tasks SET status = 'TODO' WHERE id = ?", movedId);
+        assertEquals(2, taskCountMaintainer.reconcileWithTasks());
+        assertEquals(0, taskCountMaintainer.reconcileWithTasks());
+        mockMvc.perform(get("/api/v1/manager/users/2/task-summary")
+                .header("Authorization", "Bearer " + managerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.byStatus.TODO").value(2))
+                .andExpect(jsonPath("$.byStatus.DONE").value(0));
+        assertEquals(2.0, meterRegistry.get("tasks.counts.drift").counter().count());
+
+        mockMvc.perform(get("/api/v1/manager/users/99999/task-summary")
+                .header("Authorization", "Bearer " + managerToken))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/manager/users/2/task-summary")
+                .header("Authorization", "Bearer " + creatorToken))
+                .andExpect(status().isForbidden());
+
+        // Admins see the dashboards too
+        String adminToken = registerWithRoleAndGetToken("user41", "user41@test.com", "SecurePass123!", User.Role.ADMIN);
+        mockMvc.perform(get("/api/v1/manager/users/2/task-summary")
+                .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.byStatus.TODO").value(2));
+    }
+
+    // ==========================================
+    // METRICS TESTS
+    // ==========================================
+
+    @Test
+    void shouldTimeServiceCallsByOutcome() throws Exception {
+        String token = registerAndGetToken("user17", "user17@test.com", "SecurePass123!");
+        Long taskId = createTaskAndGetId(token, "Timed Task", "Task Description", null);
+
+        mockMvc.perform(get("/api/v1/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/tasks/99999")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+
+        assertEquals(1L, meterRegistry.get("service.calls")
+            .tags("service", "TaskService", "method", "getTaskById", "outcome", "success").timer().count());
+        assertEquals(1L, meterRegistry.get("service.calls")
+            .tags("service", "TaskService", "method", "getTaskById", "outcome", "error", "exception", "ResourceNotFoundException").timer().count());
+        assertEquals(1L, meterRegistry.get("service.calls")
+            .tags("service", "AuthService", "method", "register", "outcome", "success").timer().count());
+    }
+
+    @Test
+    void shouldRecordDatabaseWorkPerRequest() throws Exception {
+        String token = registerAndGetToken("user18", "user18@test.com", "SecurePass123!");
+        createTaskAndGetId(token, "Counted Task", "Task Description", null);
+
+        DistributionSummary statements = meterRegistry.get("http.server.requests.db.statements")
+            .tags("method", "POST", "uri", "/api/v1/tasks").summary();
+        DistributionSummary flushes = meterRegistry.get("http.server.requests.db.flushes")
+            .tags("method", "POST", "uri", "/api/v1/tasks").summary();
+
+        assertEquals(1L, statements.count());
+        assertTrue(statements.totalAmount() >= 1, "The insert at least");
+        assertTrue(flushes.totalAmount() >= 1, "The commit flushes the new task");
+    }
+
+    @Test
+    void shouldCountPlainJdbcStatementsPerRequest() throws Exception {
+        String token = registerAndGetToken("user42", "user42@test.com", "SecurePass123!");
+        Long taskId = createTaskAndGetId(token, "Deleted Task", "Task Description", null);
+
+        mockMvc.perform(delete("/api/v1/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        // The row lock read and the DELETE go through JdbcTemplate, the tombstone and outbox inserts through Hibernate
+        DistributionSummary statements = meterRegistry.get("http.server.requests.db.statements")
+            .tags("method", "DELETE", "uri", "/api/v1/tasks/{id}").summary();
+        assertEquals(1L, statements.count());
+        assertTrue(statements.totalAmount() >= 4, "Statements counted: " + statements.totalAmount());
+    }
 }
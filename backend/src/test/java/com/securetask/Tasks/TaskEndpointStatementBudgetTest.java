@@ -0,0 +1,255 @@
+package com.securetask.Tasks;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.securetask.DTO.requests.BatchCreateTaskRequest;
+import com.securetask.DTO.requests.BulkTaskStatusUpdateRequest;
+import com.securetask.DTO.requests.CreateTaskRequest;
+import com.securetask.DTO.requests.RegisterRequest;
+import com.securetask.DTO.requests.TaskStatusUpdateRequest;
+import com.securetask.DTO.requests.UpdateTaskRequest;
+import com.securetask.Entitity.Task;
+import com.securetask.Service.TaskChangeSequencer;
+import com.securetask.Support.StatementCounter;
+import com.securetask.Support.StatementCountingConfig;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * JDBC statement budget of every TaskController endpoint. A change that adds a query (an N+1 on a
+ * lazy association, a repeated lookup) fails here with the list of statements executed.
+ */
+@AutoConfigureMockMvc
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import(StatementCountingConfig.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class TaskEndpointStatementBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private TaskChangeSequencer taskChangeSequencer;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // -----------------
+    // HELPERS
+    // -----------------
+    @SuppressWarnings("null")
+    private String registerAndGetToken(String username, String email) throws Exception {
+        RegisterRequest registerRequest = new RegisterRequest(username, email, "SecurePass123!", "SecurePass123!");
+        MvcResult result = mockMvc.perform(post("/api/v1/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return JsonPath.read(result.getResponse().getContentAsString(), "$.token");
+    }
+
+    @SuppressWarnings("null")
+    private Long createTask(String token, String title, Long assigneeId) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .content(objectMapper.writeValueAsString(new CreateTaskRequest(title, "Task Description", assigneeId))))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return ((Number) JsonPath.read(result.getResponse().getContentAsString(), "$.id")).longValue();
+    }
+
+    private int countGet(String token, String path) throws Exception {
+        return statementCounter.record(() -> mockMvc.perform(get(path)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk()))
+            .size();
+    }
+
+    // ==========================================
+    // LIST ENDPOINTS: one budget, whatever the row count
+    // ==========================================
+
+    @Test
+    void shouldListTasksWithAConstantNumberOfStatements() throws Exception {
+        String creator = registerAndGetToken("creator", "creator@test.com");
+        registerAndGetToken("assignee", "assignee@test.com");
+
+        List<String> lists = List.of(
+            "/api/v1/tasks",
+            "/api/v1/tasks/assigned",
+            "/api/v1/tasks/filter?status=TODO",
+            "/api/v1/tasks/search?q=report");
+        // Only the own lists carry an ETag
+        List<String> conditionalLists = List.of("/api/v1/tasks", "/api/v1/tasks/assigned");
+
+        createTask(creator, "Weekly report", 2L);
+        int[] withOneRow = new int[lists.size()];
+        for (int i = 0; i < lists.size(); i++) {
+            withOneRow[i] = countGet(creator, lists.get(i));
+        }
+
+        for (int i = 0; i < 9; i++) {
+            createTask(creator, "Monthly report " + i, i % 2 == 0 ? 2L : 1L);
+        }
+        for (int i = 0; i < lists.size(); i++) {
+            String list = lists.get(i);
+            // The ETag aggregate where there is one, then the page
+            MvcResult[] listed = new MvcResult[1];
+            statementCounter.assertAtMost(2, "GET " + list, () -> listed[0] = mockMvc.perform(get(list)
+                    .header("Authorization", "Bearer " + creator))
+                    .andExpect(status().isOk())
+                    .andReturn());
+            assertEquals(withOneRow[i], countGet(creator, list), "GET " + list + " with 10 rows vs 1 row");
+            if (!conditionalLists.contains(list)) {
+                continue;
+            }
+
+            // Revalidation stops at the aggregate
+            String etag = listed[0].getResponse().getHeader("ETag");
+            statementCounter.assertAtMost(1, "GET " + list + " (If-None-Match)", () -> mockMvc.perform(get(list)
+                    .header("Authorization", "Bearer " + creator)
+                    .header("If-None-Match", etag))
+                    .andExpect(status().isNotModified()));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("null")
+    void shouldSyncChangesInOneStatement() throws Exception {
+        String token = registerAndGetToken("syncer", "syncer@test.com");
+        for (int i = 0; i < 5; i++) {
+            createTask(token, "Synced " + i, null);
+        }
+        taskChangeSequencer.sequencePendingChanges();
+
+        MvcResult[] synced = new MvcResult[1];
+        // Purge watermark, tombstones and tasks in one UNION ALL
+        statementCounter.assertAtMost(1, "GET /api/v1/tasks/changes", () -> synced[0] = mockMvc.perform(get("/api/v1/tasks/changes")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn());
+
+        String cursor = JsonPath.read(synced[0].getResponse().getContentAsString(), "$.nextCursor");
+        statementCounter.assertAtMost(1, "GET /api/v1/tasks/changes (no change)", () -> mockMvc.perform(get("/api/v1/tasks/changes")
+                .param("cursor", cursor)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed").isEmpty()));
+    }
+
+    // ==========================================
+    // SINGLE TASK ENDPOINTS
+    // ==========================================
+
+    @Test
+    @SuppressWarnings("null")
+    void shouldServeSingleTaskEndpointsWithinBudget() throws Exception {
+        String token = registerAndGetToken("owner", "owner@test.com");
+        registerAndGetToken("assignee", "assignee@test.com");
+        Long taskId = createTask(token, "Budgeted Task", null);
+
+        // Assignee lookup, task and outbox id sequences (once per 50 ids each), task and outbox inserts,
+        // the assignee's counter delta
+        statementCounter.assertAtMost(6, "POST /api/v1/tasks", () -> createTask(token, "Another Task", 2L));
+
+        // Owner-checked id lookup, the task itself from the second-level cache
+        statementCounter.assertAtMost(1, "GET /api/v1/tasks/{id}", () -> mockMvc.perform(get("/api/v1/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk()));
+
+        // Not cached: one owner-checked projection read
+        entityManagerFactory.getCache().evict(Task.class);
+        statementCounter.assertAtMost(1, "GET /api/v1/tasks/{id} (cold cache)", () -> mockMvc.perform(get("/api/v1/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk()));
+
+        UpdateTaskRequest update = new UpdateTaskRequest("Renamed", "New description", Task.StatusEnum.IN_PROGRESS, Task.PriorityEnum.HIGH, null, 2L);
+        // Task, new assignee (second-level cache after the first lookup), update, outbox insert, counter deltas
+        statementCounter.assertAtMost(5, "PUT /api/v1/tasks/{id}", () -> mockMvc.perform(put("/api/v1/tasks/" + taskId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk()));
+
+        // Task, update, outbox insert, counter deltas
+        statementCounter.assertAtMost(4, "PATCH /api/v1/tasks/{id}/status", () -> mockMvc.perform(patch("/api/v1/tasks/" + taskId + "/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .content(objectMapper.writeValueAsString(new TaskStatusUpdateRequest(Task.StatusEnum.DONE))))
+                .andExpect(status().isOk()));
+
+        // Owner-checked id lookup, the audit page
+        statementCounter.assertAtMost(2, "GET /api/v1/tasks/{id}/history", () -> mockMvc.perform(get("/api/v1/tasks/" + taskId + "/history")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk()));
+
+        // The row locked and read, the delete, tombstone for the change feed, counter delta, outbox insert
+        statementCounter.assertAtMost(5, "DELETE /api/v1/tasks/{id}", () -> mockMvc.perform(delete("/api/v1/tasks/" + taskId)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent()));
+
+        // Deleted: the id lookup misses, the deletion tombstone grants access, the audit page
+        statementCounter.assertAtMost(3, "GET /api/v1/tasks/{id}/history (deleted task)", () -> mockMvc.perform(get("/api/v1/tasks/" + taskId + "/history")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk()));
+    }
+
+    // ==========================================
+    // BATCH ENDPOINTS
+    // ==========================================
+
+    @Test
+    @SuppressWarnings("null")
+    void shouldServeBatchEndpointsWithinBudget() throws Exception {
+        String token = registerAndGetToken("batcher", "batcher@test.com");
+
+        List<CreateTaskRequest> tasks = List.of(
+            new CreateTaskRequest("Batch 1", null, null),
+            new CreateTaskRequest("Batch 2", null, 1L),
+            new CreateTaskRequest("Batch 3", null, null),
+            new CreateTaskRequest("Batch 4", null, 1L));
+
+        // Assignees in one query, the task and outbox id sequences (twice each for a fresh pool),
+        // one JDBC batch of inserts per table (tasks, outbox, counter deltas)
+        statementCounter.assertAtMost(8, "POST /api/v1/tasks/batch", () -> mockMvc.perform(post("/api/v1/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .content(objectMapper.writeValueAsString(new BatchCreateTaskRequest(tasks))))
+                .andExpect(status().isCreated()));
+
+        BulkTaskStatusUpdateRequest bulk = new BulkTaskStatusUpdateRequest(List.of(1L, 2L, 3L, 4L), Task.StatusEnum.IN_PROGRESS);
+        // Status snapshot, one JDBC batch of compare-and-set updates, one batch each of outbox and counter delta inserts
+        statementCounter.assertAtMost(4, "PATCH /api/v1/tasks/status", () -> mockMvc.perform(patch("/api/v1/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .content(objectMapper.writeValueAsString(bulk)))
+                .andExpect(status().isOk()));
+    }
+}
@@ -0,0 +1,130 @@
+package com.securetask.Threading;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.securetask.Config.ConnectionLimitingDataSource;
+import com.securetask.DTO.requests.CreateTaskRequest;
+import com.securetask.DTO.requests.RegisterRequest;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "spring.threads.virtual.enabled=true")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class VirtualThreadModeTest {
+
+    private static final int CONCURRENT_REQUESTS = 200;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    // ==========================================
+    // HELPERS
+    // ==========================================
+
+    private HttpResponse<String> send(String method, String path, String token, Object body) throws Exception
+    {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+            .header("Content-Type", "application/json")
+            .method(method, body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    // ==========================================
+    // VIRTUAL THREAD MODE TESTS
+    // ==========================================
+
+    @Test
+    void shouldLimitConnectionAcquisitionToThePoolSize()
+    {
+        ConnectionLimitingDataSource limiter = assertInstanceOf(ConnectionLimitingDataSource.class, dataSource);
+        assertTrue(limiter.availablePermits() > 0);
+    }
+
+    @Test
+    void shouldServeConcurrentRequestsWithoutPinningInApplicationCode() throws Exception
+    {
+        HttpResponse<String> registered = send("POST", "/api/v1/auth/register", null,
+            new RegisterRequest("vthreads", "vthreads@test.com", "SecurePass123!", "SecurePass123!"));
+        assertEquals(201, registered.statusCode());
+        String token = objectMapper.readTree(registered.body()).get("token").asText();
+
+        HttpResponse<String> created = send("POST", "/api/v1/tasks", token, new CreateTaskRequest("Shared Task", "Description", null));
+        assertEquals(201, created.statusCode());
+        long taskId = objectMapper.readTree(created.body()).get("id").asLong();
+
+        Path dump = Files.createTempFile("virtual-thread-pinning", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+
+            // Far more in-flight requests than pooled connections: they must queue, not fail
+            List<Future<HttpResponse<String>>> responses = new ArrayList<>();
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                    responses.add(clients.submit(() -> send("GET", "/api/v1/tasks/" + taskId, token, null)));
+                }
+            }
+            for (Future<HttpResponse<String>> response : responses) {
+                assertEquals(200, response.get().statusCode());
+            }
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        // A pinned park with one of our frames on the stack means a request path blocks inside synchronized
+        List<RecordedEvent> pinnedInApplication = RecordingFile.readAllEvents(dump).stream()
+            .filter(event -> event.getStackTrace() != null && event.getStackTrace().getFrames().stream()
+                .anyMatch(frame -> frame.getMethod().getType().getName().startsWith("com.securetask")))
+            .toList();
+        Files.deleteIfExists(dump);
+
+        assertTrue(pinnedInApplication.isEmpty(), () -> "Virtual threads pinned in application code: " + pinnedInApplication);
+
+        ConnectionLimitingDataSource limiter = assertInstanceOf(ConnectionLimitingDataSource.class, dataSource);
+        assertEquals(0, limiter.queuedThreads());
+    }
+}